@@ -0,0 +1,102 @@
+package com.lyldding.benchmark;
+
+import com.lyldding.geometry.PathCommands;
+import com.lyldding.geometry.PolygonGeometry;
+import com.lyldding.geometry.PolygonTrigTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一次完整重绘所需的几何计算：每层的顶点、圆角或直角轮廓，以及维度坐标。
+ * <p>
+ * 运行 {@code ./gradlew :benchmark:jmh}，gc profiler 的 gc.alloc.rate.norm 应为 0。
+ *
+ * @author lyldding
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PolygonGeometryBenchmark {
+    private static final float RADIUS = 300f;
+    private static final float CORNER_RADIUS = 7f;
+
+    @Param({"3", "6", "12", "64"})
+    public int sideCount;
+
+    @Param({"1", "3", "6"})
+    public int layers;
+
+    private PolygonTrigTable table;
+    private float[] points;
+    private float[] arcs;
+    private float[] dimPercentages;
+    private PathCommands commands;
+
+    @Setup
+    public void setUp() {
+        table = PolygonTrigTable.of(sideCount);
+        points = new float[sideCount * 2];
+        arcs = new float[sideCount * PolygonGeometry.CORNER_ARC_STRIDE];
+        dimPercentages = new float[sideCount];
+        commands = new PathCommands(layers * (sideCount + 1));
+        for (int index = 0; index < sideCount; index++) {
+            dimPercentages[index] = (index + 1f) / (sideCount + 1f);
+        }
+    }
+
+    @Benchmark
+    public float[] vertexPoint() {
+        for (int i = 1; i <= layers; i++) {
+            PolygonGeometry.computeVertexPoint(points, 0, RADIUS * i / layers, sideCount, CORNER_RADIUS * i / layers);
+        }
+        return points;
+    }
+
+    @Benchmark
+    public float[] dimPoint() {
+        PolygonGeometry.computeDimPoint(points, 0, dimPercentages, 0, RADIUS, sideCount);
+        return points;
+    }
+
+    @Benchmark
+    public void realRadius(Blackhole blackhole) {
+        for (int i = 1; i <= layers; i++) {
+            blackhole.consume(PolygonGeometry.computeRealRadius(RADIUS * i / layers, CORNER_RADIUS * i / layers, table));
+        }
+    }
+
+    @Benchmark
+    public float[] roundedCorners() {
+        for (int i = 1; i <= layers; i++) {
+            PolygonGeometry.computeCornerArcs(arcs, 0, RADIUS * i / layers, CORNER_RADIUS * i / layers, table);
+        }
+        return arcs;
+    }
+
+    @Benchmark
+    public float[] nonRoundedCorners() {
+        for (int i = 1; i <= layers; i++) {
+            PolygonGeometry.computeCornerPoints(points, 0, RADIUS * i / layers, table);
+        }
+        return points;
+    }
+
+    @Benchmark
+    public PathCommands polygonPath() {
+        commands.reset();
+        for (int i = 1; i <= layers; i++) {
+            PolygonGeometry.constructPolygonPath(commands, sideCount, 0, 0, RADIUS * i / layers, CORNER_RADIUS * i / layers);
+        }
+        return commands;
+    }
+}
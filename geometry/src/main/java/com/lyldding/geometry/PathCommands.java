@@ -0,0 +1,143 @@
+package com.lyldding.geometry;
+
+import java.util.Arrays;
+
+/**
+ * 紧凑的路径指令流：指令和参数分别存放在 byte[] 与 float[] 中。
+ * <p>
+ * 可以作为 {@link PathSink} 记录一次路径构建，之后任意次回放到其他 {@link PathSink}。
+ * {@link #reset()} 后保留已分配的容量，重复记录同样大小的路径不再分配。非线程安全。
+ *
+ * @author lyldding
+ */
+public final class PathCommands implements PathSink {
+    public static final byte MOVE_TO = 0;
+    public static final byte LINE_TO = 1;
+    public static final byte ARC_TO = 2;
+    public static final byte CLOSE = 3;
+    public static final byte CIRCLE = 4;
+
+    private byte[] commands;
+    private float[] args;
+    private int commandCount;
+    private int argCount;
+
+    public PathCommands() {
+        this(16);
+    }
+
+    /**
+     * @param commandCapacity 预留的指令数
+     */
+    public PathCommands(int commandCapacity) {
+        commands = new byte[Math.max(commandCapacity, 1)];
+        args = new float[Math.max(commandCapacity, 1) * 2];
+    }
+
+    @Override
+    public void moveTo(float x, float y) {
+        append(MOVE_TO, 2);
+        args[argCount++] = x;
+        args[argCount++] = y;
+    }
+
+    @Override
+    public void lineTo(float x, float y) {
+        append(LINE_TO, 2);
+        args[argCount++] = x;
+        args[argCount++] = y;
+    }
+
+    @Override
+    public void arcTo(float centerX, float centerY, float radius, float startAngle, float sweepAngle) {
+        append(ARC_TO, 5);
+        args[argCount++] = centerX;
+        args[argCount++] = centerY;
+        args[argCount++] = radius;
+        args[argCount++] = startAngle;
+        args[argCount++] = sweepAngle;
+    }
+
+    @Override
+    public void close() {
+        append(CLOSE, 0);
+    }
+
+    @Override
+    public void addCircle(float centerX, float centerY, float radius) {
+        append(CIRCLE, 3);
+        args[argCount++] = centerX;
+        args[argCount++] = centerY;
+        args[argCount++] = radius;
+    }
+
+    private void append(byte command, int argSize) {
+        if (commandCount == commands.length) {
+            commands = Arrays.copyOf(commands, commands.length * 2);
+        }
+        if (argCount + argSize > args.length) {
+            args = Arrays.copyOf(args, Math.max(args.length * 2, argCount + argSize));
+        }
+        commands[commandCount++] = command;
+    }
+
+    /**
+     * 清空指令，保留容量
+     */
+    public void reset() {
+        commandCount = 0;
+        argCount = 0;
+    }
+
+    /**
+     * @return 指令数
+     */
+    public int size() {
+        return commandCount;
+    }
+
+    /**
+     * @param index 指令序号
+     * @return 指令类型
+     */
+    public byte commandAt(int index) {
+        if (index < 0 || index >= commandCount) {
+            throw new IndexOutOfBoundsException("PathCommands : index = " + index + " size = " + commandCount);
+        }
+        return commands[index];
+    }
+
+    /**
+     * 按记录顺序回放到 sink
+     *
+     * @param sink 接收指令
+     */
+    public void replay(PathSink sink) {
+        int arg = 0;
+        for (int index = 0; index < commandCount; index++) {
+            switch (commands[index]) {
+                case MOVE_TO:
+                    sink.moveTo(args[arg], args[arg + 1]);
+                    arg += 2;
+                    break;
+                case LINE_TO:
+                    sink.lineTo(args[arg], args[arg + 1]);
+                    arg += 2;
+                    break;
+                case ARC_TO:
+                    sink.arcTo(args[arg], args[arg + 1], args[arg + 2], args[arg + 3], args[arg + 4]);
+                    arg += 5;
+                    break;
+                case CLOSE:
+                    sink.close();
+                    break;
+                case CIRCLE:
+                    sink.addCircle(args[arg], args[arg + 1], args[arg + 2]);
+                    arg += 3;
+                    break;
+                default:
+                    throw new IllegalStateException("PathCommands : command = " + commands[index]);
+            }
+        }
+    }
+}
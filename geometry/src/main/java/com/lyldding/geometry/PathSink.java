@@ -0,0 +1,40 @@
+package com.lyldding.geometry;
+
+/**
+ * 接收路径指令，由各平台适配为自己的路径对象，例如 android.graphics.Path、java.awt.geom.Path2D。
+ * <p>
+ * 指令语义与 android.graphics.Path 一致：角度单位为度，顺时针为正（y 轴向下）。
+ *
+ * @author lyldding
+ */
+public interface PathSink {
+
+    void moveTo(float x, float y);
+
+    void lineTo(float x, float y);
+
+    /**
+     * 追加一段圆弧。当前点与圆弧起点不同时先连一条直线，路径为空时先移动到圆弧起点。
+     *
+     * @param centerX    圆心 x
+     * @param centerY    圆心 y
+     * @param radius     半径
+     * @param startAngle 起始角度
+     * @param sweepAngle 扫过角度
+     */
+    void arcTo(float centerX, float centerY, float radius, float startAngle, float sweepAngle);
+
+    /**
+     * 闭合当前轮廓
+     */
+    void close();
+
+    /**
+     * 追加一个顺时针的完整圆作为新轮廓
+     *
+     * @param centerX 圆心 x
+     * @param centerY 圆心 y
+     * @param radius  半径
+     */
+    void addCircle(float centerX, float centerY, float radius);
+}
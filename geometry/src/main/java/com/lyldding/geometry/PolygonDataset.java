@@ -0,0 +1,201 @@
+package com.lyldding.geometry;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 以内存映射方式读取的维度数据集，每条记录是 sides 个 0.0 - 1.0 的 float。
+ * <p>
+ * 文件格式（小端）：16 字节文件头，依次为 {@link #MAGIC}、{@link #VERSION}、边数和保留的 0，
+ * 之后是连续存放的记录。边数与记录长度只在打开时检查一次，{@link #record(int)} 返回的是映射内存的视图，不拷贝数据。
+ * <p>
+ * 维度值的范围不在打开时逐条检查，由 {@link PolygonLayout#computeDimPoint(float[], int, FloatBuffer)} 等使用方检查。
+ *
+ * @author lyldding
+ */
+public final class PolygonDataset implements Closeable {
+    private static final String TAG = "PolygonDataset";
+    /**
+     * 文件头标识，按小端读出为 "SPVD"
+     */
+    public static final int MAGIC = 0x44565053;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    /**
+     * 单个映射区域的最大字节数，超过时分段映射
+     */
+    private static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+    private final RandomAccessFile file;
+    private final int sides;
+    private final int recordCount;
+    private final int recordsPerSegment;
+    /**
+     * 各映射区域的 float 视图，每段包含 recordsPerSegment 条记录，最后一段可能不足
+     */
+    private final FloatBuffer[] segments;
+
+    private PolygonDataset(RandomAccessFile file, int sides, int recordCount, FloatBuffer[] segments, int recordsPerSegment) {
+        this.file = file;
+        this.sides = sides;
+        this.recordCount = recordCount;
+        this.segments = segments;
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    /**
+     * 打开并映射数据集
+     *
+     * @param path 数据集文件
+     * @return 数据集
+     * @throws IOException              读取失败
+     * @throws IllegalArgumentException 文件头或长度不正确
+     */
+    public static PolygonDataset open(File path) throws IOException {
+        return open(path, 0);
+    }
+
+    /**
+     * 打开并映射数据集，同时检查边数
+     *
+     * @param path          数据集文件
+     * @param expectedSides 期望的边数，0 不检查
+     * @return 数据集
+     * @throws IOException              读取失败
+     * @throws IllegalArgumentException 文件头、边数或长度不正确
+     */
+    public static PolygonDataset open(File path, int expectedSides) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(path, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IllegalArgumentException(TAG + " : file too short, size = " + size);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException(TAG + " : bad magic " + Integer.toHexString(header.getInt(0)));
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IllegalArgumentException(TAG + " : unsupported version " + header.getInt(4));
+            }
+            int sides = header.getInt(8);
+            if (sides < 3) {
+                throw new IllegalArgumentException(TAG + " : sides should >= 3, sides = " + sides);
+            }
+            if (expectedSides != 0 && sides != expectedSides) {
+                throw new IllegalArgumentException(TAG + " : sides != expectedSides sides = " + sides
+                        + " expectedSides = " + expectedSides);
+            }
+            long recordBytes = sides * 4L;
+            long dataBytes = size - HEADER_BYTES;
+            if (dataBytes % recordBytes != 0) {
+                throw new IllegalArgumentException(TAG + " : data length " + dataBytes + " is not a multiple of record size " + recordBytes);
+            }
+            if (dataBytes / recordBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(TAG + " : too many records " + dataBytes / recordBytes);
+            }
+            int recordCount = (int) (dataBytes / recordBytes);
+            int recordsPerSegment = (int) Math.max(1, MAX_SEGMENT_BYTES / recordBytes);
+            int segmentCount = recordCount == 0 ? 0 : (recordCount - 1) / recordsPerSegment + 1;
+            FloatBuffer[] segments = new FloatBuffer[segmentCount];
+            for (int segment = 0; segment < segmentCount; segment++) {
+                int records = Math.min(recordsPerSegment, recordCount - segment * recordsPerSegment);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + segment * (long) recordsPerSegment * recordBytes, records * recordBytes);
+                segments[segment] = mapped.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            }
+            return new PolygonDataset(file, sides, recordCount, segments, recordsPerSegment);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return 每条记录的维度数
+     */
+    public int getSides() {
+        return sides;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 返回一条记录的只读视图，position 为 0，remaining 为 sides。不拷贝数据，可以在任意线程调用。
+     *
+     * @param index 记录下标
+     * @return 记录视图，数据集关闭后仍可读取，直到被回收
+     */
+    public FloatBuffer record(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException(TAG + " : index = " + index + " recordCount = " + recordCount);
+        }
+        // duplicate 后调整 position、limit，不影响其他线程使用同一段
+        FloatBuffer view = segments[index / recordsPerSegment].duplicate();
+        int start = (index % recordsPerSegment) * sides;
+        view.limit(start + sides);
+        view.position(start);
+        return view.slice();
+    }
+
+    /**
+     * 关闭文件。映射的内存由虚拟机在回收时释放
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * 按数据集格式写出全部记录
+     *
+     * @param path    目标文件，已存在时覆盖
+     * @param sides   边数
+     * @param records 连续存放的记录，长度必须是 sides 的整数倍
+     * @throws IOException 写出失败
+     */
+    public static void write(File path, int sides, float[] records) throws IOException {
+        if (sides < 3) {
+            throw new IllegalArgumentException(TAG + " : sides should >= 3, sides = " + sides);
+        }
+        if (records.length % sides != 0) {
+            throw new IllegalArgumentException(TAG + " : records.length % sides != 0 records.length = " + records.length);
+        }
+        RandomAccessFile file = new RandomAccessFile(path, "rw");
+        try {
+            file.setLength(0);
+            FileChannel channel = file.getChannel();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(sides).putInt(0).flip();
+            writeFully(channel, header);
+            ByteBuffer data = ByteBuffer.allocate(Math.min(records.length, 64 * 1024) * 4).order(ByteOrder.LITTLE_ENDIAN);
+            int offset = 0;
+            while (offset < records.length) {
+                int count = Math.min(records.length - offset, data.capacity() / 4);
+                data.clear();
+                data.asFloatBuffer().put(records, offset, count);
+                data.limit(count * 4);
+                writeFully(channel, data);
+                offset += count;
+            }
+        } finally {
+            file.close();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
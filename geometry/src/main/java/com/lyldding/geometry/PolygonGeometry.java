@@ -0,0 +1,332 @@
+package com.lyldding.geometry;
+
+import java.nio.FloatBuffer;
+
+/**
+ * 正多边形顶点、维度坐标和圆角参数的计算，只依赖 Java 标准库。
+ * <p>
+ * 坐标以多边形中心为原点，按 x、y 交错写入调用方提供的数组，计算过程不分配对象，可以在任意线程调用。
+ * 多边形轮廓以指令的形式输出到 {@link PathSink}，由各平台适配为自己的路径对象。
+ *
+ * @author lyldding
+ */
+public final class PolygonGeometry {
+    private static final String TAG = "PolygonGeometry";
+    /**
+     * 每个圆角写入的值：圆心 x、圆心 y、起始角度、扫过角度
+     */
+    public static final int CORNER_ARC_STRIDE = 4;
+
+    private PolygonGeometry() {
+    }
+
+    /**
+     * 计算顶点坐标
+     *
+     * @param points       坐标数组，从 offset 开始写入 sideCount * 2 个值
+     * @param offset       起始下标
+     * @param radius       半径
+     * @param sideCount    边数
+     * @param cornerRadius 圆角半径
+     */
+    public static void computeVertexPoint(float[] points, int offset, float radius, int sideCount, float cornerRadius) {
+        checkPointCapacity(points, offset, sideCount, 2);
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+        int realRadius = computeRealRadius(radius, cornerRadius, table);
+        for (int cornerNumber = 0; cornerNumber < sideCount; cornerNumber++) {
+            points[offset + cornerNumber * 2] = (float) (realRadius * table.cos(cornerNumber));
+            points[offset + cornerNumber * 2 + 1] = (float) (realRadius * table.sin(cornerNumber));
+        }
+    }
+
+    /**
+     * 计算维度坐标
+     *
+     * @param points         坐标数组，从 offset 开始写入 sideCount * 2 个值
+     * @param offset         起始下标
+     * @param dimPercentages 各个维度值，从 dimOffset 开始读取 sideCount 个值
+     * @param dimOffset      维度值起始下标
+     * @param radiusMax      半径最大值
+     * @param sideCount      边数
+     */
+    public static void computeDimPoint(float[] points, int offset, float[] dimPercentages, int dimOffset,
+                                       float radiusMax, int sideCount) {
+        if (dimOffset < 0 || dimPercentages.length - dimOffset < sideCount) {
+            throw new IllegalArgumentException(TAG + " : dimPercentages.length - dimOffset < sides");
+        }
+        checkPointCapacity(points, offset, sideCount, 2);
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+        for (int index = 0; index < sideCount; index++) {
+            float radius = dimPercentages[dimOffset + index] * radiusMax;
+            points[offset + index * 2] = (float) (radius * table.cos(index));
+            points[offset + index * 2 + 1] = (float) (radius * table.sin(index));
+        }
+    }
+
+    /**
+     * 计算维度坐标，使用绝对下标读取，不改变 dimPercentages 的 position。
+     * buffer 通常直接映射自文件，读取时顺带检查范围，不需要再单独遍历一遍
+     *
+     * @param points         坐标数组，从 offset 开始写入 sideCount * 2 个值
+     * @param offset         起始下标
+     * @param dimPercentages 各个维度值 0.0 - 1.0，从 dimIndex 开始读取 sideCount 个值
+     * @param dimIndex       维度值起始下标
+     * @param radiusMax      半径最大值
+     * @param sideCount      边数
+     */
+    public static void computeDimPoint(float[] points, int offset, FloatBuffer dimPercentages, int dimIndex,
+                                       float radiusMax, int sideCount) {
+        if (dimIndex < 0 || dimPercentages.limit() - dimIndex < sideCount) {
+            throw new IllegalArgumentException(TAG + " : dimPercentages.limit() - dimIndex < sides");
+        }
+        checkPointCapacity(points, offset, sideCount, 2);
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+        for (int index = 0; index < sideCount; index++) {
+            float percentage = dimPercentages.get(dimIndex + index);
+            if (percentage < 0.0 || percentage > 1.0) {
+                throw new IllegalArgumentException(TAG + " : percentage = " + percentage);
+            }
+            float radius = percentage * radiusMax;
+            points[offset + index * 2] = (float) (radius * table.cos(index));
+            points[offset + index * 2 + 1] = (float) (radius * table.sin(index));
+        }
+    }
+
+    /**
+     * 计算维度区域旋转后的包围盒，以多边形中心为原点，用于只重绘维度区域所在的范围
+     *
+     * @param bounds         写入 left、top、right、bottom 4 个值
+     * @param dimPercentages 各个维度值，从 dimOffset 开始读取 sideCount 个值
+     * @param dimOffset      维度值起始下标
+     * @param radiusMax      半径最大值
+     * @param sideCount      边数
+     * @param rotation       旋转角度，单位度
+     * @param outset         向外扩展的距离，用于包含边宽和顶点圆
+     */
+    public static void computeDimBounds(float[] bounds, float[] dimPercentages, int dimOffset,
+                                        float radiusMax, int sideCount, float rotation, float outset) {
+        if (dimOffset < 0 || dimPercentages.length - dimOffset < sideCount) {
+            throw new IllegalArgumentException(TAG + " : dimPercentages.length - dimOffset < sides");
+        }
+        if (bounds.length < 4) {
+            throw new IllegalArgumentException(TAG + " : bounds.length < 4");
+        }
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+        final double radians = Math.toRadians(rotation);
+        final double cosRotation = Math.cos(radians);
+        final double sinRotation = Math.sin(radians);
+        float left = 0;
+        float top = 0;
+        float right = 0;
+        float bottom = 0;
+        for (int index = 0; index < sideCount; index++) {
+            float radius = dimPercentages[dimOffset + index] * radiusMax;
+            double x = radius * table.cos(index);
+            double y = radius * table.sin(index);
+            float rotatedX = (float) (x * cosRotation - y * sinRotation);
+            float rotatedY = (float) (x * sinRotation + y * cosRotation);
+            if (index == 0) {
+                left = right = rotatedX;
+                top = bottom = rotatedY;
+            } else {
+                left = Math.min(left, rotatedX);
+                right = Math.max(right, rotatedX);
+                top = Math.min(top, rotatedY);
+                bottom = Math.max(bottom, rotatedY);
+            }
+        }
+        bounds[0] = left - outset;
+        bounds[1] = top - outset;
+        bounds[2] = right + outset;
+        bounds[3] = bottom + outset;
+    }
+
+    /**
+     * 计算顶点的真实半径，即圆角弧线与顶点连线的交点到中心的距离
+     *
+     * @param radius       半径
+     * @param cornerRadius 弧度半径
+     * @param table        顶点三角函数表
+     * @return 真实半径
+     */
+    public static int computeRealRadius(float radius, float cornerRadius, PolygonTrigTable table) {
+        return (int) (radius - (cornerRadius / table.sinHalfInteriorAngleFloat() - cornerRadius));
+    }
+
+    /**
+     * @param outerRadius 外接圆半径
+     * @param table       顶点三角函数表
+     * @return 内切圆半径，圆角半径大于该值时多边形退化为内切圆
+     */
+    public static float computeInRadius(float outerRadius, PolygonTrigTable table) {
+        return (float) (outerRadius * table.cosHalfCentralAngle());
+    }
+
+    /**
+     * 计算不带圆角的多边形各角坐标
+     *
+     * @param points      坐标数组，从 offset 开始写入 sideCount * 2 个值
+     * @param offset      起始下标
+     * @param outerRadius 外接圆半径
+     * @param table       顶点三角函数表
+     */
+    public static void computeCornerPoints(float[] points, int offset, float outerRadius, PolygonTrigTable table) {
+        final int sideCount = table.getSideCount();
+        checkPointCapacity(points, offset, sideCount, 2);
+        for (int index = 0; index < sideCount; index++) {
+            points[offset + index * 2] = (float) (outerRadius * table.cos(index));
+            points[offset + index * 2 + 1] = (float) (outerRadius * table.sin(index));
+        }
+    }
+
+    /**
+     * 计算带圆角的多边形各角圆弧，每个角写入 {@link #CORNER_ARC_STRIDE} 个值：
+     * 圆心 x、圆心 y、起始角度、扫过角度（单位度）。依次连接各段圆弧即得到多边形轮廓。
+     *
+     * @param arcs         圆弧数组，从 offset 开始写入 sideCount * {@link #CORNER_ARC_STRIDE} 个值
+     * @param offset       起始下标
+     * @param outerRadius  外接圆半径
+     * @param cornerRadius 圆角半径
+     * @param table        顶点三角函数表
+     */
+    public static void computeCornerArcs(float[] arcs, int offset, float outerRadius, float cornerRadius,
+                                         PolygonTrigTable table) {
+        final int sideCount = table.getSideCount();
+        checkPointCapacity(arcs, offset, sideCount, CORNER_ARC_STRIDE);
+        final double halfInteriorCornerAngle = 90 - (180.0 / sideCount);
+        final float halfCornerArcSweepAngle = (float) (90 - halfInteriorCornerAngle);
+        final double distanceToCornerArcCenter = outerRadius - cornerRadius / table.sinHalfInteriorAngle();
+
+        for (int cornerNumber = 0; cornerNumber < sideCount; cornerNumber++) {
+            final int index = offset + cornerNumber * CORNER_ARC_STRIDE;
+            arcs[index] = (float) (distanceToCornerArcCenter * table.cos(cornerNumber));
+            arcs[index + 1] = (float) (distanceToCornerArcCenter * table.sin(cornerNumber));
+            arcs[index + 2] = (float) (table.angle(cornerNumber) - halfCornerArcSweepAngle);
+            arcs[index + 3] = 2 * halfCornerArcSweepAngle;
+        }
+    }
+
+    /**
+     * 输出正多边形轮廓。圆角半径大于内切圆半径时输出内切圆。
+     *
+     * @param sink         接收路径指令
+     * @param sideCount    边数
+     * @param centerX      中心 x
+     * @param centerY      中心 y
+     * @param outerRadius  外接圆半径（不计圆角）
+     * @param cornerRadius 圆角半径
+     */
+    public static void constructPolygonPath(PathSink sink, int sideCount, float centerX, float centerY,
+                                            float outerRadius, float cornerRadius) {
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+        final float inRadius = computeInRadius(outerRadius, table);
+
+        if (inRadius < cornerRadius) {
+            /*
+             * If the supplied corner radius is too small, we default to the "incircle".
+             *   - https://web.archive.org/web/20170415150442/https://en.wikipedia.org/wiki/Regular_polygon
+             *   - https://web.archive.org/web/20170415150415/http://www.mathopenref.com/polygonincircle.html
+             */
+            sink.addCircle(centerX, centerY, inRadius);
+        } else if (Math.abs(cornerRadius) < 0.01) {
+            constructNonRoundedPolygonPath(sink, table, centerX, centerY, outerRadius);
+        } else {
+            constructRoundedPolygonPath(sink, table, centerX, centerY, outerRadius, cornerRadius);
+        }
+    }
+
+    private static void constructRoundedPolygonPath(PathSink sink, PolygonTrigTable table, float centerX, float centerY,
+                                                    float outerRadius, float cornerRadius) {
+        final int sideCount = table.getSideCount();
+        final double halfInteriorCornerAngle = 90 - (180.0 / sideCount);
+        final float halfCornerArcSweepAngle = (float) (90 - halfInteriorCornerAngle);
+        final double distanceToCornerArcCenter = outerRadius - cornerRadius / table.sinHalfInteriorAngle();
+
+        for (int cornerNumber = 0; cornerNumber < sideCount; cornerNumber++) {
+            final float cornerCenterX = (float) (distanceToCornerArcCenter * table.cos(cornerNumber));
+            final float cornerCenterY = (float) (distanceToCornerArcCenter * table.sin(cornerNumber));
+            /*
+             * Each corner is an arc; the sink connects consecutive arcs with straight edges,
+             * the same way android.graphics.Path#arcTo does.
+             */
+            sink.arcTo(centerX + cornerCenterX, centerY + cornerCenterY, cornerRadius,
+                    (float) (table.angle(cornerNumber) - halfCornerArcSweepAngle),
+                    2 * halfCornerArcSweepAngle);
+        }
+
+        // Draw the final straight edge.
+        sink.close();
+    }
+
+    private static void constructNonRoundedPolygonPath(PathSink sink, PolygonTrigTable table, float centerX, float centerY,
+                                                       float radius) {
+        final int sideCount = table.getSideCount();
+        for (int index = 0; index < sideCount; index++) {
+            final float cornerX = (float) (radius * table.cos(index));
+            final float cornerY = (float) (radius * table.sin(index));
+
+            if (index == 0) {
+                sink.moveTo(centerX + cornerX, centerY + cornerY);
+            } else {
+                sink.lineTo(centerX + cornerX, centerY + cornerY);
+            }
+        }
+        sink.close();
+    }
+
+    /**
+     * 点击测试：先由角度直接算出所在扇区和最近的顶点连线，再把距离投影到扇区边的法线上与各层半径比较。
+     * 不考虑圆角，不分配对象。
+     *
+     * @param x           相对中心的 x
+     * @param y           相对中心的 y
+     * @param sideCount   边数
+     * @param layers      层数
+     * @param radius      最外层外接圆半径
+     * @param rotation    旋转角度，单位度
+     * @param dimPoints   未旋转的维度坐标，x、y 交错存放；为 null 时不测试维度顶点
+     * @param dimOffset   维度坐标起始下标
+     * @param touchRadius 维度顶点的触摸半径
+     * @param result      接收结果
+     * @return true 点击在多边形内或维度顶点上
+     */
+    public static boolean hitTest(float x, float y, int sideCount, int layers, float radius, float rotation,
+                                  float[] dimPoints, int dimOffset, float touchRadius, PolygonHitResult result) {
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+        final double step = 360.0 / sideCount;
+        final double distance = Math.sqrt(x * x + y * y);
+        double angle = (Math.toDegrees(Math.atan2(y, x)) - rotation) % 360;
+        if (angle < 0) {
+            angle += 360;
+        }
+        int wedgeIndex = (int) (angle / step);
+        if (wedgeIndex >= sideCount) {
+            wedgeIndex = sideCount - 1;
+        }
+        final int dimIndex = (int) (angle / step + 0.5) % sideCount;
+
+        // 扇区内到中心的距离投影到边的法线方向，与各层的内切圆半径比较
+        final double projection = distance * Math.cos(Math.toRadians(angle - (wedgeIndex + 0.5) * step));
+        final double apothem = radius * table.cosHalfCentralAngle();
+        int layer = projection <= 0 ? 1 : (int) Math.ceil(projection * layers / apothem);
+        if (layer > layers) {
+            layer = 0;
+        }
+
+        boolean isDimVertex = false;
+        if (dimPoints != null) {
+            final double localAngle = Math.toRadians(angle);
+            final double dx = distance * Math.cos(localAngle) - dimPoints[dimOffset + dimIndex * 2];
+            final double dy = distance * Math.sin(localAngle) - dimPoints[dimOffset + dimIndex * 2 + 1];
+            isDimVertex = dx * dx + dy * dy <= touchRadius * touchRadius;
+        }
+        result.set(dimIndex, wedgeIndex, layer, isDimVertex);
+        return layer != 0 || isDimVertex;
+    }
+
+    private static void checkPointCapacity(float[] points, int offset, int sideCount, int stride) {
+        if (offset < 0 || points.length - offset < sideCount * stride) {
+            throw new IllegalArgumentException(TAG + " : points.length - offset < sides * " + stride);
+        }
+    }
+}
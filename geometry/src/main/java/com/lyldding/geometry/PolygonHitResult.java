@@ -0,0 +1,55 @@
+package com.lyldding.geometry;
+
+/**
+ * 点击测试的结果，由调用方创建并反复传入，测试过程不分配对象。
+ *
+ * @author lyldding
+ */
+public final class PolygonHitResult {
+    private int dimIndex = -1;
+    private int wedgeIndex = -1;
+    private int layer;
+    private boolean isDimVertex;
+
+    /**
+     * @return 离点击位置最近的顶点连线，即维度序号；没有测试时为 -1
+     */
+    public int getDimIndex() {
+        return dimIndex;
+    }
+
+    /**
+     * @return 点击位置所在的扇区，第 n 个扇区位于第 n 和 n + 1 条顶点连线之间；没有测试时为 -1
+     */
+    public int getWedgeIndex() {
+        return wedgeIndex;
+    }
+
+    /**
+     * @return 点击位置所在的层，1 为最内层；在多边形外为 0
+     */
+    public int getLayer() {
+        return layer;
+    }
+
+    /**
+     * @return true 点击在维度顶点的触摸范围内
+     */
+    public boolean isDimVertex() {
+        return isDimVertex;
+    }
+
+    void set(int dimIndex, int wedgeIndex, int layer, boolean isDimVertex) {
+        this.dimIndex = dimIndex;
+        this.wedgeIndex = wedgeIndex;
+        this.layer = layer;
+        this.isDimVertex = isDimVertex;
+    }
+
+    /**
+     * 恢复为未命中
+     */
+    public void reset() {
+        set(-1, -1, 0, false);
+    }
+}
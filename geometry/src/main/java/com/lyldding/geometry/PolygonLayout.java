@@ -0,0 +1,164 @@
+package com.lyldding.geometry;
+
+import java.nio.FloatBuffer;
+
+/**
+ * 按 {@link PolygonSpec} 和像素密度换算出的绘制尺寸与网格坐标，换算方式与 {@code SimplePolygonView} 一致。
+ * <p>
+ * 实例不可变，可以在多个线程共享，供各平台的渲染器使用。
+ *
+ * @author lyldding
+ */
+public final class PolygonLayout {
+    private static final String TAG = "PolygonLayout";
+
+    private final PolygonSpec spec;
+    private final int size;
+    private final int center;
+    private final int drawRadius;
+    private final float cornerRadius;
+    private final int outerStrokeWidth;
+    private final float dimCircleRadiusBackground;
+    private final float dimCircleRadius;
+    private final float[] minPoints;
+    private final float[] maxPoints;
+
+    /**
+     * @param spec    属性
+     * @param density 每 dp 的像素数，与 Android 的 DisplayMetrics#density 含义相同
+     */
+    public PolygonLayout(PolygonSpec spec, float density) {
+        if (density <= 0) {
+            throw new IllegalArgumentException(TAG + " : density should > 0");
+        }
+        this.spec = spec;
+        final int sides = spec.getSides();
+        final int layers = spec.getLayers();
+        final int innerLayer = spec.getInnerLayer();
+        cornerRadius = dp2px(spec.getCornerRadius(), density);
+        outerStrokeWidth = dp2px(spec.getOuterStrokeWidth(), density);
+        final int radiusMaxScale = (int) (spec.getScale() * dp2px(spec.getRadiusMax(), density));
+        size = radiusMaxScale * 2;
+        center = size / 2;
+        drawRadius = radiusMaxScale - outerStrokeWidth / 2;
+        dimCircleRadiusBackground = dp2px(spec.getDimCircleRadiusBackground(), density);
+        dimCircleRadius = dp2px(spec.getDimCircleRadius(), density);
+
+        minPoints = new float[sides * 2];
+        maxPoints = new float[sides * 2];
+        PolygonGeometry.computeVertexPoint(minPoints, 0, drawRadius * innerLayer / layers, sides, cornerRadius * innerLayer / layers);
+        PolygonGeometry.computeVertexPoint(maxPoints, 0, drawRadius, sides, cornerRadius);
+    }
+
+    private static int dp2px(float dpValue, float density) {
+        return (int) (dpValue * density + 0.5f);
+    }
+
+    public PolygonSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * @return 宽高，与 View 在 wrap_content 时的测量结果一致
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return 中心坐标，x、y 相同
+     */
+    public int getCenter() {
+        return center;
+    }
+
+    /**
+     * @return 绘制用半径，扣除了最外层边宽的一半；也是以中心为原点的裁剪范围
+     */
+    public int getDrawRadius() {
+        return drawRadius;
+    }
+
+    public float getCornerRadius() {
+        return cornerRadius;
+    }
+
+    public int getOuterStrokeWidth() {
+        return outerStrokeWidth;
+    }
+
+    public float getDimCircleRadiusBackground() {
+        return dimCircleRadiusBackground;
+    }
+
+    public float getDimCircleRadius() {
+        return dimCircleRadius;
+    }
+
+    /**
+     * @return 顶点连线起点，x、y 交错存放，调用方不能修改
+     */
+    public float[] getMinPoints() {
+        return minPoints;
+    }
+
+    /**
+     * @return 顶点连线终点，x、y 交错存放，调用方不能修改
+     */
+    public float[] getMaxPoints() {
+        return maxPoints;
+    }
+
+    /**
+     * 输出第 layer 层多边形轮廓，以中心为原点
+     *
+     * @param sink  接收路径指令
+     * @param layer 层序号，1 为最内层
+     */
+    public void constructLayerPath(PathSink sink, int layer) {
+        final int layers = spec.getLayers();
+        if (layer < 1 || layer > layers) {
+            throw new IllegalArgumentException(TAG + " : layer = " + layer);
+        }
+        float radius = drawRadius * layer / layers;
+        PolygonGeometry.constructPolygonPath(sink, spec.getSides(), 0, 0, radius, cornerRadius * layer / layers);
+    }
+
+    /**
+     * 检查维度值后计算维度坐标，以中心为原点
+     *
+     * @param points         坐标数组，从 offset 开始写入 sides * 2 个值
+     * @param offset         起始下标
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0
+     */
+    public void computeDimPoint(float[] points, int offset, float[] dimPercentages) {
+        if (dimPercentages == null) {
+            throw new IllegalArgumentException(TAG + " : showDim requires dimPercentages");
+        }
+        if (spec.getSides() != dimPercentages.length) {
+            throw new IllegalArgumentException(TAG + " : sides != dimPercentages.length sides = " + spec.getSides()
+                    + " dimPercentages.length = " + dimPercentages.length);
+        }
+        for (float percentage : dimPercentages) {
+            if (percentage < 0.0 || percentage > 1.0) {
+                throw new IllegalArgumentException(TAG + " : percentage = " + percentage);
+            }
+        }
+        PolygonGeometry.computeDimPoint(points, offset, dimPercentages, 0, drawRadius, spec.getSides());
+    }
+
+    /**
+     * 计算维度坐标，以中心为原点，适合直接使用 {@link PolygonDataset#record(int)} 的视图。
+     * 记录的边数已在打开数据集时检查，这里只读取一遍，读取时检查范围
+     *
+     * @param points         坐标数组，从 offset 开始写入 sides * 2 个值
+     * @param offset         起始下标
+     * @param dimPercentages 从 position 开始的 sides 个维度值 0.0 - 1.0，读取后 position 不变
+     */
+    public void computeDimPoint(float[] points, int offset, FloatBuffer dimPercentages) {
+        if (dimPercentages == null) {
+            throw new IllegalArgumentException(TAG + " : showDim requires dimPercentages");
+        }
+        PolygonGeometry.computeDimPoint(points, offset, dimPercentages, dimPercentages.position(), drawRadius, spec.getSides());
+    }
+}
@@ -0,0 +1,195 @@
+package com.lyldding.geometry;
+
+import java.util.Arrays;
+
+/**
+ * 把各维度的原始值换算为 0.0 - 1.0 的维度值，写入预先分配的缓冲区，多个图表按顺序连续存放。
+ * <p>
+ * 范围有两种：构造时指定每个维度的固定范围，超出范围的值截断到 0.0 或 1.0；
+ * 或者使用已加入数据的实时最小、最大值，范围变化时才重新换算已写入的图表。
+ * 范围为 0 的维度换算为 0.0。实例不是线程安全的。
+ *
+ * @author lyldding
+ */
+public final class PolygonNormalizer {
+    private static final String TAG = "PolygonNormalizer";
+
+    private final int sides;
+    private final int capacity;
+    /**
+     * true 使用实时最小、最大值
+     */
+    private final boolean isRunning;
+    private final float[] min;
+    private final float[] max;
+    /**
+     * 已加入的原始值，范围变化时据此重新换算
+     */
+    private final float[] rawValues;
+    private final float[] percentages;
+    private int size;
+    private int rescaleCount;
+
+    private PolygonNormalizer(int sides, int capacity, float[] min, float[] max, boolean isRunning) {
+        if (sides < 3) {
+            throw new IllegalArgumentException(TAG + " : sides should >= 3, sides = " + sides);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException(TAG + " : capacity should >= 1, capacity = " + capacity);
+        }
+        this.sides = sides;
+        this.capacity = capacity;
+        this.min = min;
+        this.max = max;
+        this.isRunning = isRunning;
+        rawValues = isRunning ? new float[capacity * sides] : null;
+        percentages = new float[capacity * sides];
+    }
+
+    /**
+     * 使用已加入数据的实时最小、最大值
+     *
+     * @param sides    维度数
+     * @param capacity 最多容纳的图表数
+     * @return 换算器
+     */
+    public static PolygonNormalizer running(int sides, int capacity) {
+        float[] min = new float[sides];
+        float[] max = new float[sides];
+        Arrays.fill(min, Float.POSITIVE_INFINITY);
+        Arrays.fill(max, Float.NEGATIVE_INFINITY);
+        return new PolygonNormalizer(sides, capacity, min, max, true);
+    }
+
+    /**
+     * 使用固定范围，已写入的图表不会被重新换算
+     *
+     * @param min      每个维度的最小值，数据会被拷贝
+     * @param max      每个维度的最大值，数据会被拷贝
+     * @param capacity 最多容纳的图表数
+     * @return 换算器
+     */
+    public static PolygonNormalizer fixed(float[] min, float[] max, int capacity) {
+        if (min.length != max.length) {
+            throw new IllegalArgumentException(TAG + " : min.length != max.length min.length = " + min.length
+                    + " max.length = " + max.length);
+        }
+        for (int axis = 0; axis < min.length; axis++) {
+            if (!(min[axis] <= max[axis])) {
+                throw new IllegalArgumentException(TAG + " : min > max at axis " + axis);
+            }
+        }
+        return new PolygonNormalizer(min.length, capacity, min.clone(), max.clone(), false);
+    }
+
+    /**
+     * 换算并加入一个图表的原始值
+     *
+     * @param raw    原始值，从 offset 开始读取 sides 个值
+     * @param offset 起始下标
+     * @return true 范围发生变化，之前写入的图表已重新换算
+     */
+    public boolean add(float[] raw, int offset) {
+        if (size == capacity) {
+            throw new IllegalStateException(TAG + " : full, capacity = " + capacity);
+        }
+        if (offset < 0 || raw.length - offset < sides) {
+            throw new IllegalArgumentException(TAG + " : raw.length - offset < sides");
+        }
+        for (int axis = 0; axis < sides; axis++) {
+            float value = raw[offset + axis];
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                throw new IllegalArgumentException(TAG + " : value = " + value + " at axis " + axis);
+            }
+        }
+
+        boolean isBoundsChanged = false;
+        if (isRunning) {
+            for (int axis = 0; axis < sides; axis++) {
+                float value = raw[offset + axis];
+                if (value < min[axis]) {
+                    min[axis] = value;
+                    isBoundsChanged = true;
+                }
+                if (value > max[axis]) {
+                    max[axis] = value;
+                    isBoundsChanged = true;
+                }
+            }
+            System.arraycopy(raw, offset, rawValues, size * sides, sides);
+        }
+        normalize(raw, offset, size * sides);
+        size++;
+
+        // 第一组数据确定初始范围，不算重新换算
+        if (isBoundsChanged && size > 1) {
+            for (int chart = 0; chart < size - 1; chart++) {
+                normalize(rawValues, chart * sides, chart * sides);
+            }
+            rescaleCount++;
+            return true;
+        }
+        return false;
+    }
+
+    private void normalize(float[] raw, int rawOffset, int outOffset) {
+        for (int axis = 0; axis < sides; axis++) {
+            float range = max[axis] - min[axis];
+            float percentage = range > 0 ? (raw[rawOffset + axis] - min[axis]) / range : 0f;
+            percentages[outOffset + axis] = Math.min(1f, Math.max(0f, percentage));
+        }
+    }
+
+    /**
+     * 清空已加入的图表；实时范围同时重置
+     */
+    public void clear() {
+        size = 0;
+        if (isRunning) {
+            Arrays.fill(min, Float.POSITIVE_INFINITY);
+            Arrays.fill(max, Float.NEGATIVE_INFINITY);
+        }
+    }
+
+    /**
+     * @return 换算结果，第 i 个图表从 i * sides 开始，只有前 size * sides 个值有效。
+     * 返回的是内部缓冲区，可以直接传给 {@code setDimSeries}；不要修改
+     */
+    public float[] getPercentages() {
+        return percentages;
+    }
+
+    /**
+     * @return 已加入的图表数
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    /**
+     * @return 因范围变化重新换算已写入图表的次数
+     */
+    public int getRescaleCount() {
+        return rescaleCount;
+    }
+
+    /**
+     * @param axis 维度下标
+     * @return 当前范围的最小值；实时范围尚无数据时为 {@link Float#POSITIVE_INFINITY}
+     */
+    public float getMin(int axis) {
+        return min[axis];
+    }
+
+    /**
+     * @param axis 维度下标
+     * @return 当前范围的最大值；实时范围尚无数据时为 {@link Float#NEGATIVE_INFINITY}
+     */
+    public float getMax(int axis) {
+        return max[axis];
+    }
+}
@@ -0,0 +1,390 @@
+package com.lyldding.geometry;
+
+/**
+ * {@code SimplePolygonView} 的全部属性，不可变。
+ * <p>
+ * 尺寸单位与对应的 setter 一致（dp），通过 {@code SimplePolygonView#bind(PolygonSpec, float[])} 一次性应用，
+ * 适合在 RecyclerView 中复用同一个 View 绑定不同的数据；不依赖 Android，也可以交给其他平台的渲染器使用。
+ *
+ * @author lyldding
+ */
+public final class PolygonSpec {
+    private final int layers;
+    private final int sides;
+    private final int rotation;
+    private final int cornerRadius;
+    private final int dimCircleRadiusBackground;
+    private final int dimCircleRadius;
+    private final float scale;
+    private final int radiusMax;
+    private final int innerLayer;
+    private final int outerStrokeWidth;
+    private final int strokeColor;
+    private final int innerFillColor;
+    private final int vertexLineColor;
+    private final int dimFillColor;
+    private final int dimStrokeColor;
+    private final int dimCircleColorBackground;
+    private final int dimCircleColor;
+    private final boolean showDim;
+
+    private PolygonSpec(Builder builder) {
+        layers = builder.layers;
+        sides = builder.sides;
+        rotation = builder.rotation;
+        cornerRadius = builder.cornerRadius;
+        dimCircleRadiusBackground = builder.dimCircleRadiusBackground;
+        dimCircleRadius = builder.dimCircleRadius;
+        scale = builder.scale;
+        radiusMax = builder.radiusMax;
+        innerLayer = builder.innerLayer;
+        outerStrokeWidth = builder.outerStrokeWidth;
+        strokeColor = builder.strokeColor;
+        innerFillColor = builder.innerFillColor;
+        vertexLineColor = builder.vertexLineColor;
+        dimFillColor = builder.dimFillColor;
+        dimStrokeColor = builder.dimStrokeColor;
+        dimCircleColorBackground = builder.dimCircleColorBackground;
+        dimCircleColor = builder.dimCircleColor;
+        showDim = builder.showDim;
+    }
+
+    public int getLayers() {
+        return layers;
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getCornerRadius() {
+        return cornerRadius;
+    }
+
+    public int getDimCircleRadiusBackground() {
+        return dimCircleRadiusBackground;
+    }
+
+    public int getDimCircleRadius() {
+        return dimCircleRadius;
+    }
+
+    public float getScale() {
+        return scale;
+    }
+
+    public int getRadiusMax() {
+        return radiusMax;
+    }
+
+    public int getInnerLayer() {
+        return innerLayer;
+    }
+
+    public int getOuterStrokeWidth() {
+        return outerStrokeWidth;
+    }
+
+    public int getStrokeColor() {
+        return strokeColor;
+    }
+
+    public int getInnerFillColor() {
+        return innerFillColor;
+    }
+
+    public int getVertexLineColor() {
+        return vertexLineColor;
+    }
+
+    public int getDimFillColor() {
+        return dimFillColor;
+    }
+
+    public int getDimStrokeColor() {
+        return dimStrokeColor;
+    }
+
+    public int getDimCircleColorBackground() {
+        return dimCircleColorBackground;
+    }
+
+    public int getDimCircleColor() {
+        return dimCircleColor;
+    }
+
+    public boolean isShowDim() {
+        return showDim;
+    }
+
+    /**
+     * @return 以当前属性为初始值的 Builder
+     */
+    public Builder newBuilder() {
+        return new Builder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PolygonSpec)) {
+            return false;
+        }
+        PolygonSpec other = (PolygonSpec) o;
+        return layers == other.layers
+                && sides == other.sides
+                && rotation == other.rotation
+                && cornerRadius == other.cornerRadius
+                && dimCircleRadiusBackground == other.dimCircleRadiusBackground
+                && dimCircleRadius == other.dimCircleRadius
+                && Float.floatToIntBits(scale) == Float.floatToIntBits(other.scale)
+                && radiusMax == other.radiusMax
+                && innerLayer == other.innerLayer
+                && outerStrokeWidth == other.outerStrokeWidth
+                && strokeColor == other.strokeColor
+                && innerFillColor == other.innerFillColor
+                && vertexLineColor == other.vertexLineColor
+                && dimFillColor == other.dimFillColor
+                && dimStrokeColor == other.dimStrokeColor
+                && dimCircleColorBackground == other.dimCircleColorBackground
+                && dimCircleColor == other.dimCircleColor
+                && showDim == other.showDim;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = layers;
+        result = 31 * result + sides;
+        result = 31 * result + rotation;
+        result = 31 * result + cornerRadius;
+        result = 31 * result + dimCircleRadiusBackground;
+        result = 31 * result + dimCircleRadius;
+        result = 31 * result + Float.floatToIntBits(scale);
+        result = 31 * result + radiusMax;
+        result = 31 * result + innerLayer;
+        result = 31 * result + outerStrokeWidth;
+        result = 31 * result + strokeColor;
+        result = 31 * result + innerFillColor;
+        result = 31 * result + vertexLineColor;
+        result = 31 * result + dimFillColor;
+        result = 31 * result + dimStrokeColor;
+        result = 31 * result + dimCircleColorBackground;
+        result = 31 * result + dimCircleColor;
+        result = 31 * result + (showDim ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * 默认值与 xml 属性的默认值一致
+     */
+    public static final class Builder {
+        private int layers = 3;
+        private int sides = 5;
+        private int rotation;
+        private int cornerRadius = 7;
+        private int dimCircleRadiusBackground = 5;
+        private int dimCircleRadius = 4;
+        private float scale = 1.0f;
+        private int radiusMax = 100;
+        private int innerLayer;
+        private int outerStrokeWidth = 2;
+        private int strokeColor = 0xFF000000;
+        private int innerFillColor = 0xFFCCCCCC;
+        private int vertexLineColor = 0xFF888888;
+        private int dimFillColor = 0x44FFDEAD;
+        private int dimStrokeColor = 0xFFFFFF00;
+        private int dimCircleColorBackground = 0xFFFFFFFF;
+        private int dimCircleColor = 0xFFFF0000;
+        private boolean showDim;
+
+        public Builder() {
+        }
+
+        private Builder(PolygonSpec spec) {
+            layers = spec.layers;
+            sides = spec.sides;
+            rotation = spec.rotation;
+            cornerRadius = spec.cornerRadius;
+            dimCircleRadiusBackground = spec.dimCircleRadiusBackground;
+            dimCircleRadius = spec.dimCircleRadius;
+            scale = spec.scale;
+            radiusMax = spec.radiusMax;
+            innerLayer = spec.innerLayer;
+            outerStrokeWidth = spec.outerStrokeWidth;
+            strokeColor = spec.strokeColor;
+            innerFillColor = spec.innerFillColor;
+            vertexLineColor = spec.vertexLineColor;
+            dimFillColor = spec.dimFillColor;
+            dimStrokeColor = spec.dimStrokeColor;
+            dimCircleColorBackground = spec.dimCircleColorBackground;
+            dimCircleColor = spec.dimCircleColor;
+            showDim = spec.showDim;
+        }
+
+        /**
+         * @param layers 多边形层数
+         */
+        public Builder layers(int layers) {
+            this.layers = layers;
+            return this;
+        }
+
+        /**
+         * @param sides 多边形边数
+         */
+        public Builder sides(int sides) {
+            this.sides = sides;
+            return this;
+        }
+
+        /**
+         * @param rotation 多边形旋转角度
+         */
+        public Builder rotation(int rotation) {
+            this.rotation = rotation;
+            return this;
+        }
+
+        /**
+         * @param cornerRadius 圆角弧度半径
+         */
+        public Builder cornerRadius(int cornerRadius) {
+            this.cornerRadius = cornerRadius;
+            return this;
+        }
+
+        /**
+         * @param radius 维度圆点背景半径
+         */
+        public Builder dimCircleRadiusBackground(int radius) {
+            this.dimCircleRadiusBackground = radius;
+            return this;
+        }
+
+        /**
+         * @param radius 维度圆点半径
+         */
+        public Builder dimCircleRadius(int radius) {
+            this.dimCircleRadius = radius;
+            return this;
+        }
+
+        /**
+         * @param scale 多边形scale
+         */
+        public Builder scale(float scale) {
+            this.scale = scale;
+            return this;
+        }
+
+        /**
+         * @param radiusMax 多边形最外围半径
+         */
+        public Builder radiusMax(int radiusMax) {
+            this.radiusMax = radiusMax;
+            return this;
+        }
+
+        /**
+         * @param innerLayer 多边形指定内层
+         */
+        public Builder innerLayer(int innerLayer) {
+            this.innerLayer = innerLayer;
+            return this;
+        }
+
+        /**
+         * @param width 多边形最外层边宽度
+         */
+        public Builder outerStrokeWidth(int width) {
+            this.outerStrokeWidth = width;
+            return this;
+        }
+
+        /**
+         * @param color 多边形边颜色
+         */
+        public Builder strokeColor(int color) {
+            this.strokeColor = color;
+            return this;
+        }
+
+        /**
+         * @param color 多边形内层填充色
+         */
+        public Builder innerFillColor(int color) {
+            this.innerFillColor = color;
+            return this;
+        }
+
+        /**
+         * @param color 各层顶点连线颜色
+         */
+        public Builder vertexLineColor(int color) {
+            this.vertexLineColor = color;
+            return this;
+        }
+
+        /**
+         * @param color 维度区域填充色
+         */
+        public Builder dimFillColor(int color) {
+            this.dimFillColor = color;
+            return this;
+        }
+
+        /**
+         * @param color 维度区域边颜色
+         */
+        public Builder dimStrokeColor(int color) {
+            this.dimStrokeColor = color;
+            return this;
+        }
+
+        /**
+         * @param color 维度顶点圆背景填充色
+         */
+        public Builder dimCircleColorBackground(int color) {
+            this.dimCircleColorBackground = color;
+            return this;
+        }
+
+        /**
+         * @param color 维度顶点圆填充色
+         */
+        public Builder dimCircleColor(int color) {
+            this.dimCircleColor = color;
+            return this;
+        }
+
+        /**
+         * @param showDim true 显示维度区域
+         */
+        public Builder showDim(boolean showDim) {
+            this.showDim = showDim;
+            return this;
+        }
+
+        public PolygonSpec build() {
+            if (layers < 1) {
+                throw new IllegalArgumentException("PolygonSpec : layers should >= 1");
+            }
+            if (sides < 3) {
+                throw new IllegalArgumentException("PolygonSpec : sides should >= 3");
+            }
+            if (innerLayer < 0 || innerLayer > layers) {
+                throw new IllegalArgumentException("PolygonSpec : 0 <= innerLayer <= layers");
+            }
+            if (scale <= 0) {
+                throw new IllegalArgumentException("PolygonSpec : scale should > 0");
+            }
+            return new PolygonSpec(this);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.lyldding.geometry;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 正多边形各顶点在单位圆上的角度、正弦、余弦值
+ * <p>
+ * 每个 (边数, 旋转角度) 缓存后只计算一次，实例不可变，可以在任意线程读取。
+ * 计算方式与逐点计算 {@code Math.cos(toRadians(i * (360.0 / sideCount)))} 完全一致，结果逐位相同。
+ *
+ * @author lyldding
+ */
+public final class PolygonTrigTable {
+    /**
+     * 不旋转时按边数直接索引的表数量
+     */
+    private static final int INDEXED_TABLES = 64;
+    /**
+     * 带旋转或边数较多的表的缓存槽数，2 的幂
+     */
+    private static final int ROTATED_TABLES = 256;
+    /**
+     * 查找时最多探测的槽数，都被占用时替换第一个槽
+     */
+    private static final int MAX_PROBES = 8;
+
+    private static final AtomicReferenceArray<PolygonTrigTable> TABLES = new AtomicReferenceArray<>(INDEXED_TABLES);
+    private static final AtomicReferenceArray<PolygonTrigTable> ROTATED = new AtomicReferenceArray<>(ROTATED_TABLES);
+
+    private final int sideCount;
+    private final float rotation;
+    private final double[] angles;
+    private final double[] cos;
+    private final double[] sin;
+    private final double cosHalfCentralAngle;
+    private final double sinHalfInteriorAngle;
+    private final double sinHalfInteriorAngleFloat;
+
+    private PolygonTrigTable(int sideCount, float rotation) {
+        this.sideCount = sideCount;
+        this.rotation = rotation;
+        angles = new double[sideCount];
+        cos = new double[sideCount];
+        sin = new double[sideCount];
+        for (int index = 0; index < sideCount; index++) {
+            final double angleToCorner = index * (360.0 / sideCount) + rotation;
+            angles[index] = angleToCorner;
+            cos[index] = Math.cos(toRadians(angleToCorner));
+            sin[index] = Math.sin(toRadians(angleToCorner));
+        }
+        cosHalfCentralAngle = Math.cos(toRadians(180.0 / sideCount));
+        sinHalfInteriorAngle = Math.sin(toRadians(90 - (180.0 / sideCount)));
+        sinHalfInteriorAngleFloat = Math.sin(toRadians(90 - (360.0f / sideCount) / 2));
+    }
+
+    /**
+     * @param sideCount 边数
+     * @return 不旋转的三角函数表
+     */
+    public static PolygonTrigTable of(int sideCount) {
+        if (sideCount < 3) {
+            throw new IllegalArgumentException("PolygonTrigTable : sideCount should >= 3");
+        }
+        if (sideCount >= INDEXED_TABLES) {
+            return of(sideCount, 0);
+        }
+        PolygonTrigTable table = TABLES.get(sideCount);
+        if (table == null) {
+            table = new PolygonTrigTable(sideCount, 0);
+            if (!TABLES.compareAndSet(sideCount, null, table)) {
+                table = TABLES.get(sideCount);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 按 (边数, 旋转角度) 在定长数组中开放寻址查找，命中时不分配对象。
+     * 缓存满后新的表替换旧表，不会每次都重新计算。
+     *
+     * @param sideCount 边数
+     * @param rotation  旋转角度，叠加到每个顶点的角度上
+     * @return 三角函数表
+     */
+    public static PolygonTrigTable of(int sideCount, float rotation) {
+        if (sideCount < 3) {
+            throw new IllegalArgumentException("PolygonTrigTable : sideCount should >= 3");
+        }
+        if (rotation == 0 && sideCount < INDEXED_TABLES) {
+            return of(sideCount);
+        }
+        final int rotationBits = Float.floatToIntBits(rotation);
+        final int start = slotOf(sideCount, rotationBits);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            final int slot = (start + probe) & (ROTATED_TABLES - 1);
+            PolygonTrigTable table = ROTATED.get(slot);
+            if (table == null) {
+                table = new PolygonTrigTable(sideCount, rotation);
+                if (ROTATED.compareAndSet(slot, null, table)) {
+                    return table;
+                }
+                table = ROTATED.get(slot);
+            }
+            if (table.sideCount == sideCount && Float.floatToIntBits(table.rotation) == rotationBits) {
+                return table;
+            }
+        }
+        PolygonTrigTable table = new PolygonTrigTable(sideCount, rotation);
+        ROTATED.set(start, table);
+        return table;
+    }
+
+    private static int slotOf(int sideCount, int rotationBits) {
+        int hash = (sideCount * 31 + rotationBits) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (ROTATED_TABLES - 1);
+    }
+
+    public int getSideCount() {
+        return sideCount;
+    }
+
+    public float getRotation() {
+        return rotation;
+    }
+
+    /**
+     * @param index 顶点序号
+     * @return 顶点角度，单位度
+     */
+    public double angle(int index) {
+        return angles[index];
+    }
+
+    /**
+     * @param index 顶点序号
+     * @return 顶点角度的余弦值
+     */
+    public double cos(int index) {
+        return cos[index];
+    }
+
+    /**
+     * @param index 顶点序号
+     * @return 顶点角度的正弦值
+     */
+    public double sin(int index) {
+        return sin[index];
+    }
+
+    /**
+     * @return cos(180 / sideCount)，外接圆半径乘以该值得到内切圆半径
+     */
+    public double cosHalfCentralAngle() {
+        return cosHalfCentralAngle;
+    }
+
+    /**
+     * @return sin(90 - 180 / sideCount)，即内角一半的正弦值
+     */
+    public double sinHalfInteriorAngle() {
+        return sinHalfInteriorAngle;
+    }
+
+    /**
+     * 与 {@link #sinHalfInteriorAngle()} 相同，但角度按 float 精度计算，用于顶点真实半径
+     *
+     * @return sin(90 - (360f / sideCount) / 2)
+     */
+    public double sinHalfInteriorAngleFloat() {
+        return sinHalfInteriorAngleFloat;
+    }
+
+    static double toRadians(final double degrees) {
+        return 2 * Math.PI * degrees / 360;
+    }
+}
@@ -0,0 +1,100 @@
+package com.lyldding.geometry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class PolygonDatasetTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeThenOpen_readsRecordsWithoutCopy() throws IOException {
+        File file = folder.newFile("dims.spvd");
+        float[] records = new float[6 * 100];
+        for (int index = 0; index < records.length; index++) {
+            records[index] = (index % 11) / 10f;
+        }
+        PolygonDataset.write(file, 6, records);
+        assertEquals(PolygonDataset.HEADER_BYTES + records.length * 4, file.length());
+
+        PolygonDataset dataset = PolygonDataset.open(file, 6);
+        try {
+            assertEquals(6, dataset.getSides());
+            assertEquals(100, dataset.getRecordCount());
+            FloatBuffer record = dataset.record(42);
+            assertEquals(0, record.position());
+            assertEquals(6, record.remaining());
+            float[] values = new float[6];
+            record.get(values);
+            float[] expected = new float[6];
+            System.arraycopy(records, 42 * 6, expected, 0, 6);
+            assertArrayEquals(expected, values, 0f);
+        } finally {
+            dataset.close();
+        }
+    }
+
+    @Test
+    public void computeDimPoint_fromRecordMatchesArray() throws IOException {
+        File file = folder.newFile("dims.spvd");
+        float[] dims = {0.2f, 0.4f, 0.6f, 0.8f, 1f, 0.5f};
+        PolygonDataset.write(file, 6, dims);
+        PolygonLayout layout = new PolygonLayout(new PolygonSpec.Builder().sides(6).build(), 2f);
+        float[] fromArray = new float[12];
+        float[] fromBuffer = new float[12];
+        layout.computeDimPoint(fromArray, 0, dims);
+
+        PolygonDataset dataset = PolygonDataset.open(file);
+        try {
+            FloatBuffer record = dataset.record(0);
+            layout.computeDimPoint(fromBuffer, 0, record);
+            assertEquals(0, record.position());
+        } finally {
+            dataset.close();
+        }
+        assertArrayEquals(fromArray, fromBuffer, 0f);
+    }
+
+    @Test
+    public void open_rejectsMismatchedSidesAndTruncatedData() throws IOException {
+        File file = folder.newFile("dims.spvd");
+        PolygonDataset.write(file, 6, new float[12]);
+        try {
+            PolygonDataset.open(file, 5).close();
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 边数不一致
+        }
+
+        RandomAccessFile raw = new RandomAccessFile(file, "rw");
+        raw.setLength(file.length() - 2);
+        raw.close();
+        try {
+            PolygonDataset.open(file).close();
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 长度不是记录的整数倍
+        }
+
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[PolygonDataset.HEADER_BYTES]);
+        out.close();
+        try {
+            PolygonDataset.open(file).close();
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 文件头不正确
+        }
+    }
+}
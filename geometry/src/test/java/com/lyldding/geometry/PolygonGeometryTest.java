@@ -0,0 +1,173 @@
+package com.lyldding.geometry;
+
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 多边形轮廓的指令流
+ */
+public class PolygonGeometryTest {
+
+    @Test
+    public void nonRoundedPolygon_movesThenLinesThenCloses() {
+        PathCommands commands = new PathCommands();
+        PolygonGeometry.constructPolygonPath(commands, 6, 0, 0, 100, 0);
+
+        assertEquals(7, commands.size());
+        assertEquals(PathCommands.MOVE_TO, commands.commandAt(0));
+        for (int index = 1; index < 6; index++) {
+            assertEquals(PathCommands.LINE_TO, commands.commandAt(index));
+        }
+        assertEquals(PathCommands.CLOSE, commands.commandAt(6));
+    }
+
+    @Test
+    public void roundedPolygon_emitsOneArcPerCorner() {
+        PathCommands commands = new PathCommands();
+        PolygonGeometry.constructPolygonPath(commands, 5, 0, 0, 100, 7);
+
+        assertEquals(6, commands.size());
+        for (int index = 0; index < 5; index++) {
+            assertEquals(PathCommands.ARC_TO, commands.commandAt(index));
+        }
+        assertEquals(PathCommands.CLOSE, commands.commandAt(5));
+    }
+
+    @Test
+    public void dimBounds_containDimPointsPlusOutset() {
+        float[] dims = {0.2f, 1f, 0.5f, 0.3f, 0.8f, 0.1f};
+        float[] points = new float[12];
+        PolygonGeometry.computeDimPoint(points, 0, dims, 0, 100, 6);
+        float[] bounds = new float[4];
+        PolygonGeometry.computeDimBounds(bounds, dims, 0, 100, 6, 0, 5);
+
+        float left = Float.MAX_VALUE;
+        float top = Float.MAX_VALUE;
+        float right = -Float.MAX_VALUE;
+        float bottom = -Float.MAX_VALUE;
+        for (int index = 0; index < 6; index++) {
+            left = Math.min(left, points[index * 2]);
+            right = Math.max(right, points[index * 2]);
+            top = Math.min(top, points[index * 2 + 1]);
+            bottom = Math.max(bottom, points[index * 2 + 1]);
+        }
+        assertEquals(left - 5, bounds[0], 1e-3f);
+        assertEquals(top - 5, bounds[1], 1e-3f);
+        assertEquals(right + 5, bounds[2], 1e-3f);
+        assertEquals(bottom + 5, bounds[3], 1e-3f);
+
+        // 旋转 90 度后 (x, y) 变为 (-y, x)
+        float[] rotated = new float[4];
+        PolygonGeometry.computeDimBounds(rotated, dims, 0, 100, 6, 90, 5);
+        assertEquals(-(bottom + 5), rotated[0], 1e-3f);
+        assertEquals(left - 5, rotated[1], 1e-3f);
+        assertEquals(-(top - 5), rotated[2], 1e-3f);
+        assertEquals(right + 5, rotated[3], 1e-3f);
+    }
+
+    @Test
+    public void dimPointFromBuffer_readsSidesFromPosition() {
+        float[] dims = {0.2f, 1f, 0.5f, 0.3f, 0.8f, 0.1f};
+        float[] expected = new float[12];
+        PolygonGeometry.computeDimPoint(expected, 0, dims, 0, 100, 6);
+
+        // 前后各多一个值，只读取 position 开始的 6 个
+        FloatBuffer buffer = FloatBuffer.allocate(8);
+        buffer.put(0.9f).put(dims).put(0.9f).flip();
+        buffer.position(1);
+        float[] points = new float[12];
+        PolygonGeometry.computeDimPoint(points, 0, buffer, buffer.position(), 100, 6);
+        assertArrayEquals(expected, points, 0f);
+        assertEquals(1, buffer.position());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void dimPointFromBuffer_rejectsOutOfRange() {
+        FloatBuffer buffer = FloatBuffer.wrap(new float[]{0.2f, 1.5f, 0.5f});
+        PolygonGeometry.computeDimPoint(new float[6], 0, buffer, 0, 100, 3);
+    }
+
+    @Test
+    public void tooLargeCornerRadius_fallsBackToIncircle() {
+        PathCommands commands = new PathCommands();
+        PolygonGeometry.constructPolygonPath(commands, 4, 0, 0, 100, 90);
+
+        assertEquals(1, commands.size());
+        assertEquals(PathCommands.CIRCLE, commands.commandAt(0));
+    }
+
+    @Test
+    public void replay_matchesCornerMath() {
+        final PolygonTrigTable table = PolygonTrigTable.of(5);
+        final float[] arcs = new float[5 * PolygonGeometry.CORNER_ARC_STRIDE];
+        PolygonGeometry.computeCornerArcs(arcs, 0, 100, 7, table);
+
+        PathCommands commands = new PathCommands(1);
+        PolygonGeometry.constructPolygonPath(commands, 5, 0, 0, 100, 7);
+        final int[] corner = new int[1];
+        commands.replay(new EmptySink() {
+            @Override
+            public void arcTo(float centerX, float centerY, float radius, float startAngle, float sweepAngle) {
+                int index = corner[0]++ * PolygonGeometry.CORNER_ARC_STRIDE;
+                assertEquals(arcs[index], centerX, 0f);
+                assertEquals(arcs[index + 1], centerY, 0f);
+                assertEquals(7f, radius, 0f);
+                assertEquals(arcs[index + 2], startAngle, 0f);
+                assertEquals(arcs[index + 3], sweepAngle, 0f);
+            }
+        });
+        assertEquals(5, corner[0]);
+    }
+
+    @Test
+    public void center_offsetsEveryCommand() {
+        PathCommands origin = new PathCommands();
+        PolygonGeometry.constructPolygonPath(origin, 3, 0, 0, 50, 0);
+        final float[] points = new float[6];
+        PolygonGeometry.computeCornerPoints(points, 0, 50, PolygonTrigTable.of(3));
+
+        PathCommands moved = new PathCommands();
+        PolygonGeometry.constructPolygonPath(moved, 3, 10, 20, 50, 0);
+        final int[] vertex = new int[1];
+        moved.replay(new EmptySink() {
+            @Override
+            public void moveTo(float x, float y) {
+                lineTo(x, y);
+            }
+
+            @Override
+            public void lineTo(float x, float y) {
+                int index = vertex[0]++ * 2;
+                assertEquals(points[index] + 10, x, 0f);
+                assertEquals(points[index + 1] + 20, y, 0f);
+            }
+        });
+        assertEquals(3, vertex[0]);
+    }
+
+    private static class EmptySink implements PathSink {
+        @Override
+        public void moveTo(float x, float y) {
+        }
+
+        @Override
+        public void lineTo(float x, float y) {
+        }
+
+        @Override
+        public void arcTo(float centerX, float centerY, float radius, float startAngle, float sweepAngle) {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void addCircle(float centerX, float centerY, float radius) {
+        }
+    }
+}
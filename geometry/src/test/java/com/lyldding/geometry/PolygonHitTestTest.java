@@ -0,0 +1,89 @@
+package com.lyldding.geometry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link PolygonGeometry#hitTest} 的扇区、层和维度顶点判断
+ */
+public class PolygonHitTestTest {
+    private static final int SIDES = 6;
+    private static final int LAYERS = 4;
+    private static final float RADIUS = 200;
+
+    @Test
+    public void wedgeAndDim_followAngle() {
+        PolygonHitResult result = new PolygonHitResult();
+        // 第 0、1 条连线之间（0° 与 60° 之间），偏向 0°
+        assertTrue(hitAt(100, 20, 0, result));
+        assertEquals(0, result.getWedgeIndex());
+        assertEquals(0, result.getDimIndex());
+
+        // 50° 更靠近第 1 条连线
+        assertTrue(hitAt(polarX(100, 50), polarY(100, 50), 0, result));
+        assertEquals(0, result.getWedgeIndex());
+        assertEquals(1, result.getDimIndex());
+
+        // -10° 属于最后一个扇区，最近的连线是第 0 条
+        hitAt(polarX(100, -10), polarY(100, -10), 0, result);
+        assertEquals(SIDES - 1, result.getWedgeIndex());
+        assertEquals(0, result.getDimIndex());
+    }
+
+    @Test
+    public void rotation_isRemovedBeforeBucketing() {
+        PolygonHitResult result = new PolygonHitResult();
+        // 旋转 90° 后，屏幕上 90° 方向是第 0 条连线
+        hitAt(polarX(100, 92), polarY(100, 92), 90, result);
+        assertEquals(0, result.getDimIndex());
+        assertEquals(0, result.getWedgeIndex());
+    }
+
+    @Test
+    public void layer_usesApothemWithinWedge() {
+        PolygonHitResult result = new PolygonHitResult();
+        double apothem = RADIUS * Math.cos(Math.PI / SIDES);
+        // 扇区中线方向 30°，每层内切圆半径为 apothem / LAYERS
+        for (int layer = 1; layer <= LAYERS; layer++) {
+            float distance = (float) (apothem * (layer - 0.5) / LAYERS);
+            assertTrue(hitAt(polarX(distance, 30), polarY(distance, 30), 0, result));
+            assertEquals(layer, result.getLayer());
+        }
+        // 顶点方向可以超过内切圆半径，直到外接圆
+        assertTrue(hitAt(RADIUS - 1, 0, 0, result));
+        assertEquals(LAYERS, result.getLayer());
+        // 边中点外侧不在多边形内
+        assertFalse(hitAt(polarX((float) apothem + 2, 30), polarY((float) apothem + 2, 30), 0, result));
+        assertEquals(0, result.getLayer());
+    }
+
+    @Test
+    public void dimVertex_withinTouchRadius() {
+        float[] dims = {0.5f, 0.5f, 0.5f, 0.5f, 0.5f, 0.5f};
+        float[] dimPoints = new float[SIDES * 2];
+        PolygonGeometry.computeDimPoint(dimPoints, 0, dims, 0, RADIUS, SIDES);
+        PolygonHitResult result = new PolygonHitResult();
+
+        PolygonGeometry.hitTest(dimPoints[2] + 3, dimPoints[3] - 3, SIDES, LAYERS, RADIUS, 0, dimPoints, 0, 10, result);
+        assertTrue(result.isDimVertex());
+        assertEquals(1, result.getDimIndex());
+
+        PolygonGeometry.hitTest(dimPoints[2] + 30, dimPoints[3], SIDES, LAYERS, RADIUS, 0, dimPoints, 0, 10, result);
+        assertFalse(result.isDimVertex());
+    }
+
+    private static boolean hitAt(float x, float y, float rotation, PolygonHitResult result) {
+        return PolygonGeometry.hitTest(x, y, SIDES, LAYERS, RADIUS, rotation, null, 0, 0, result);
+    }
+
+    private static float polarX(float distance, double degrees) {
+        return (float) (distance * Math.cos(Math.toRadians(degrees)));
+    }
+
+    private static float polarY(float distance, double degrees) {
+        return (float) (distance * Math.sin(Math.toRadians(degrees)));
+    }
+}
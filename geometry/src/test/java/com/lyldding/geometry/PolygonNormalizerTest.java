@@ -0,0 +1,66 @@
+package com.lyldding.geometry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PolygonNormalizerTest {
+
+    @Test
+    public void running_rescalesOnlyWhenBoundsChange() {
+        PolygonNormalizer normalizer = PolygonNormalizer.running(3, 4);
+        assertFalse(normalizer.add(new float[]{0, 10, 100}, 0));
+        assertTrue(normalizer.add(new float[]{10, 20, 200}, 0));
+        // 在范围内，不重新换算
+        assertFalse(normalizer.add(new float[]{5, 15, 150}, 0));
+        assertEquals(1, normalizer.getRescaleCount());
+        assertArrayEquals(new float[]{0, 0, 0, 1, 1, 1, 0.5f, 0.5f, 0.5f},
+                copyOf(normalizer), 1e-6f);
+
+        // 扩大范围后之前的图表一起重新换算
+        assertTrue(normalizer.add(new float[]{20, 20, 200}, 0));
+        assertArrayEquals(new float[]{0, 0, 0, 0.5f, 1, 1, 0.25f, 0.5f, 0.5f, 1, 1, 1},
+                copyOf(normalizer), 1e-6f);
+        assertEquals(2, normalizer.getRescaleCount());
+    }
+
+    @Test
+    public void fixed_clampsAndNeverRescales() {
+        PolygonNormalizer normalizer = PolygonNormalizer.fixed(new float[]{0, 0, -1}, new float[]{10, 100, 1}, 2);
+        assertFalse(normalizer.add(new float[]{5, 150, 0}, 0));
+        assertFalse(normalizer.add(new float[]{-5, 25, 1}, 0));
+        assertArrayEquals(new float[]{0.5f, 1, 0.5f, 0, 0.25f, 1}, copyOf(normalizer), 1e-6f);
+        assertEquals(0, normalizer.getRescaleCount());
+    }
+
+    @Test
+    public void clear_resetsRunningBounds() {
+        PolygonNormalizer normalizer = PolygonNormalizer.running(3, 1);
+        normalizer.add(new float[]{1, 2, 3}, 0);
+        normalizer.clear();
+        assertEquals(0, normalizer.size());
+        assertFalse(normalizer.add(new float[]{4, 5, 6}, 0));
+        assertEquals(4f, normalizer.getMin(0), 0f);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void add_rejectsWhenFull() {
+        PolygonNormalizer normalizer = PolygonNormalizer.running(3, 1);
+        normalizer.add(new float[]{1, 2, 3}, 0);
+        normalizer.add(new float[]{1, 2, 3}, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_rejectsNaN() {
+        PolygonNormalizer.running(3, 1).add(new float[]{1, Float.NaN, 3}, 0);
+    }
+
+    private static float[] copyOf(PolygonNormalizer normalizer) {
+        float[] values = new float[normalizer.size() * normalizer.getSides()];
+        System.arraycopy(normalizer.getPercentages(), 0, values, 0, values.length);
+        return values;
+    }
+}
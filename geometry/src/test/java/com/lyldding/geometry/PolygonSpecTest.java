@@ -0,0 +1,49 @@
+package com.lyldding.geometry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+public class PolygonSpecTest {
+
+    @Test
+    public void equals_sameAttributes() {
+        PolygonSpec first = new PolygonSpec.Builder().sides(6).layers(4).dimFillColor(0x33123FFF).build();
+        PolygonSpec second = new PolygonSpec.Builder().sides(6).layers(4).dimFillColor(0x33123FFF).build();
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void newBuilder_copiesAttributes() {
+        PolygonSpec spec = new PolygonSpec.Builder().sides(6).rotation(270).scale(0.5f).showDim(true).build();
+        assertEquals(spec, spec.newBuilder().build());
+        PolygonSpec changed = spec.newBuilder().scale(0.75f).build();
+        assertNotEquals(spec, changed);
+        assertEquals(6, changed.getSides());
+        assertEquals(270, changed.getRotation());
+    }
+
+    @Test
+    public void builder_defaultsMatchXml() {
+        PolygonSpec spec = new PolygonSpec.Builder().build();
+        assertEquals(3, spec.getLayers());
+        assertEquals(5, spec.getSides());
+        assertEquals(100, spec.getRadiusMax());
+        assertEquals(1.0f, spec.getScale(), 0f);
+        assertFalse(spec.isShowDim());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_rejectsTooFewSides() {
+        new PolygonSpec.Builder().sides(2).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_rejectsInnerLayerBeyondLayers() {
+        // 内层超过层数时半径会超出绘制半径
+        new PolygonSpec.Builder().sides(6).layers(3).innerLayer(4).build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.lyldding.geometry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * {@link PolygonTrigTable} 与原有逐点计算的结果逐位一致
+ */
+public class PolygonTrigTableTest {
+    private static final float[] RADII = {0.5f, 1f, 37f, 100f, 263.25f, 1080f};
+
+    @Test
+    public void vertexTrig_isBitIdentical() {
+        for (int sideCount = 3; sideCount <= 100; sideCount++) {
+            PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+            for (int index = 0; index < sideCount; index++) {
+                final double angleToCorner = index * (360.0 / sideCount);
+                assertEquals(Double.doubleToLongBits(angleToCorner), Double.doubleToLongBits(table.angle(index)));
+                for (float radius : RADII) {
+                    assertBitsEqual((float) (radius * Math.cos(toRadians(angleToCorner))), (float) (radius * table.cos(index)));
+                    assertBitsEqual((float) (radius * Math.sin(toRadians(angleToCorner))), (float) (radius * table.sin(index)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void cornerTrig_isBitIdentical() {
+        for (int sideCount = 3; sideCount <= 100; sideCount++) {
+            PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+            assertEquals(Double.doubleToLongBits(Math.cos(toRadians(180.0 / sideCount))),
+                    Double.doubleToLongBits(table.cosHalfCentralAngle()));
+            assertEquals(Double.doubleToLongBits(Math.sin(toRadians(90 - (180.0 / sideCount)))),
+                    Double.doubleToLongBits(table.sinHalfInteriorAngle()));
+            double angleToCorner = 90 - (360.0f / sideCount) / 2;
+            assertEquals(Double.doubleToLongBits(Math.sin(toRadians(angleToCorner))),
+                    Double.doubleToLongBits(table.sinHalfInteriorAngleFloat()));
+        }
+    }
+
+    @Test
+    public void rotatedTable_addsRotation() {
+        PolygonTrigTable table = PolygonTrigTable.of(6, 270f);
+        for (int index = 0; index < 6; index++) {
+            final double angleToCorner = index * (360.0 / 6) + 270f;
+            assertEquals(Double.doubleToLongBits(Math.cos(toRadians(angleToCorner))), Double.doubleToLongBits(table.cos(index)));
+            assertEquals(Double.doubleToLongBits(Math.sin(toRadians(angleToCorner))), Double.doubleToLongBits(table.sin(index)));
+        }
+        assertSame(PolygonTrigTable.of(6), PolygonTrigTable.of(6, 0f));
+        assertSame(table, PolygonTrigTable.of(6, 270f));
+    }
+
+    @Test
+    public void rotatedTable_staysCachedAfterCacheFills() {
+        for (int rotation = 0; rotation < 1000; rotation++) {
+            PolygonTrigTable.of(6, rotation + 0.5f);
+        }
+        PolygonTrigTable table = PolygonTrigTable.of(6, 1000.5f);
+        assertSame(table, PolygonTrigTable.of(6, 1000.5f));
+        assertSame(PolygonTrigTable.of(100), PolygonTrigTable.of(100));
+    }
+
+    @Test
+    public void of_concurrentCallersShareOneTable() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<PolygonTrigTable>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(new Callable<PolygonTrigTable>() {
+                    @Override
+                    public PolygonTrigTable call() {
+                        return PolygonTrigTable.of(17);
+                    }
+                }));
+            }
+            for (Future<PolygonTrigTable> future : futures) {
+                assertSame(PolygonTrigTable.of(17), future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_rejectsTooFewSides() {
+        PolygonTrigTable.of(2);
+    }
+
+    private static void assertBitsEqual(float expected, float actual) {
+        assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(actual));
+    }
+
+    private static double toRadians(final double degrees) {
+        return 2 * Math.PI * degrees / 360;
+    }
+}
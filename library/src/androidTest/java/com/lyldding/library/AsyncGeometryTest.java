@@ -0,0 +1,67 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 后台构建只在属性变化后提交，未完成时绘制不阻塞
+ */
+@RunWith(AndroidJUnit4.class)
+public class AsyncGeometryTest {
+
+    @Test
+    public void draw_submitsOneBuildPerChange() {
+        QueueExecutor executor = new QueueExecutor();
+        SimplePolygonView view = TestViews.newView(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f});
+        view.setPolygonGeometryExecutor(executor);
+        view.setPolygonAsyncGeometryEnabled(true);
+        TestViews.layout(view);
+
+        Bitmap bitmap = TestViews.createBitmap(view);
+        Canvas canvas = new Canvas(bitmap);
+
+        // 构建未完成时照常返回
+        view.draw(canvas);
+        view.draw(canvas);
+        assertEquals(1, executor.tasks.size());
+
+        executor.runAll();
+        view.draw(canvas);
+        view.draw(canvas);
+        assertEquals(0, executor.tasks.size());
+
+        view.setDimPercentages(new float[]{0.6f, 0.5f, 0.4f, 0.3f, 0.2f, 0.1f});
+        view.draw(canvas);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        view.draw(canvas);
+        bitmap.recycle();
+    }
+
+    private static final class QueueExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            for (Runnable task : pending) {
+                task.run();
+            }
+        }
+    }
+}
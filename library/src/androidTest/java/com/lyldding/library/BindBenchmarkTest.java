@@ -0,0 +1,104 @@
+package com.lyldding.library;
+
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import com.lyldding.geometry.PolygonSpec;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 测量 {@link SimplePolygonView#bind(PolygonSpec, float[])} 的耗时和对象分配，模拟 RecyclerView 反复绑定
+ */
+@RunWith(AndroidJUnit4.class)
+public class BindBenchmarkTest {
+    private static final String TAG = "BindBenchmarkTest";
+    private static final int WARMUP = 1000;
+    private static final int ITERATIONS = 10000;
+
+    private SimplePolygonView view;
+    private PolygonSpec specA;
+    private PolygonSpec specB;
+    private float[] dataA;
+    private float[] dataB;
+
+    @Before
+    public void setUp() {
+        view = new SimplePolygonView(InstrumentationRegistry.getTargetContext());
+        specA = new PolygonSpec.Builder().sides(6).layers(4).innerLayer(1).showDim(true).build();
+        specB = specA.newBuilder().strokeColor(0xFF3366FF).rotation(270).build();
+        dataA = new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f};
+        dataB = new float[]{0.6f, 0.5f, 0.4f, 0.3f, 0.2f, 0.1f};
+    }
+
+    @Test
+    public void bind_sameSpec() {
+        for (int i = 0; i < WARMUP; i++) {
+            view.bind(specA, dataA);
+        }
+        Result result = measure(specA, dataA, specA, dataA);
+        Log.i(TAG, "same spec: " + result);
+        assertEquals(0, result.allocations);
+    }
+
+    @Test
+    public void bind_changingData() {
+        for (int i = 0; i < WARMUP; i++) {
+            view.bind(specA, i % 2 == 0 ? dataA : dataB);
+        }
+        Result result = measure(specA, dataA, specA, dataB);
+        Log.i(TAG, "changing data: " + result);
+        assertEquals(0, result.allocations);
+    }
+
+    @Test
+    public void bind_changingSpec() {
+        for (int i = 0; i < WARMUP; i++) {
+            view.bind(i % 2 == 0 ? specA : specB, dataA);
+        }
+        Result result = measure(specA, dataA, specB, dataB);
+        Log.i(TAG, "changing spec: " + result);
+    }
+
+    private Result measure(PolygonSpec firstSpec, float[] firstData, PolygonSpec secondSpec, float[] secondData) {
+        long maxNanos = 0;
+        Debug.resetThreadAllocCount();
+        Debug.startAllocCounting();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bindStart = System.nanoTime();
+            if (i % 2 == 0) {
+                view.bind(firstSpec, firstData);
+            } else {
+                view.bind(secondSpec, secondData);
+            }
+            maxNanos = Math.max(maxNanos, System.nanoTime() - bindStart);
+        }
+        long totalNanos = System.nanoTime() - start;
+        Debug.stopAllocCounting();
+        return new Result(totalNanos / ITERATIONS, maxNanos, Debug.getThreadAllocCount());
+    }
+
+    private static final class Result {
+        final long averageNanos;
+        final long maxNanos;
+        final int allocations;
+
+        Result(long averageNanos, long maxNanos, int allocations) {
+            this.averageNanos = averageNanos;
+            this.maxNanos = maxNanos;
+            this.allocations = allocations;
+        }
+
+        @Override
+        public String toString() {
+            return "avg " + averageNanos + " ns/bind, max " + maxNanos + " ns, " + allocations + " allocations";
+        }
+    }
+}
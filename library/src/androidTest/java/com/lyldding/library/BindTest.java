@@ -0,0 +1,53 @@
+package com.lyldding.library;
+
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.lyldding.geometry.PolygonSpec;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link SimplePolygonView#bind(PolygonSpec, float[])} 检查失败时不修改 View 的状态
+ */
+@RunWith(AndroidJUnit4.class)
+public class BindTest {
+
+    @Test
+    public void dimsNotMatchingSpec_leaveViewUntouched() {
+        SimplePolygonView view = new SimplePolygonView(InstrumentationRegistry.getTargetContext());
+        PolygonSpec spec = new PolygonSpec.Builder().sides(6).showDim(true).build();
+        try {
+            view.bind(spec, new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f});
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertEquals(5, view.getSides());
+            assertNull(view.getSpec());
+        }
+
+        // 用同一个 spec 重试时完整绑定
+        view.bind(spec, new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f});
+        assertEquals(6, view.getSides());
+        assertSame(spec, view.getSpec());
+    }
+
+    @Test
+    public void showDimWithoutMatchingData_leavesViewUntouched() {
+        SimplePolygonView view = new SimplePolygonView(InstrumentationRegistry.getTargetContext());
+        view.setDimPercentages(new float[]{0.1f, 0.2f, 0.3f, 0.4f, 0.5f});
+        PolygonSpec spec = new PolygonSpec.Builder().sides(6).showDim(true).build();
+        try {
+            view.bind(spec, null);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertEquals(5, view.getSides());
+            assertNull(view.getSpec());
+        }
+    }
+}
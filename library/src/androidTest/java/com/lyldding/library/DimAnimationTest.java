@@ -0,0 +1,150 @@
+package com.lyldding.library;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 维度动画按注入的时间逐帧插值
+ */
+@RunWith(AndroidJUnit4.class)
+public class DimAnimationTest {
+    private static final int SIDES = 6;
+    private static final long DURATION = 100;
+    private static final float DELTA = 1e-4f;
+
+    private FakeTimeView view;
+    private Bitmap bitmap;
+    private Canvas canvas;
+
+    @Before
+    public void setUp() {
+        view = TestViews.layout(TestViews.showDims(new FakeTimeView(InstrumentationRegistry.getTargetContext()), fill(0f)));
+        bitmap = TestViews.createBitmap(view);
+        canvas = new Canvas(bitmap);
+        drawAt(0);
+    }
+
+    @After
+    public void tearDown() {
+        bitmap.recycle();
+    }
+
+    @Test
+    public void frames_interpolateAndStopPostingAtEnd() {
+        view.animateDimPercentages(fill(1f), DURATION, null);
+        assertTrue(view.isDimAnimating());
+
+        view.posts = 0;
+        drawAt(DURATION / 4);
+        assertDims(0.25f);
+        drawAt(DURATION / 2);
+        assertDims(0.5f);
+        assertEquals(2, view.posts);
+        assertTrue(view.isDimAnimating());
+
+        drawAt(DURATION);
+        assertDims(1f);
+        assertFalse(view.isDimAnimating());
+        // 最后一帧不再请求下一帧
+        assertEquals(2, view.posts);
+
+        drawAt(DURATION * 2);
+        assertDims(1f);
+        assertEquals(2, view.posts);
+    }
+
+    @Test
+    public void retarget_startsFromCurrentFrame() {
+        view.animateDimPercentages(fill(1f), DURATION, null);
+        drawAt(DURATION / 2);
+        assertDims(0.5f);
+
+        view.animateDimPercentages(fill(0f), DURATION, null);
+        drawAt(DURATION / 2);
+        assertDims(0.5f);
+        drawAt(DURATION);
+        assertDims(0.25f);
+        drawAt(DURATION * 3 / 2);
+        assertDims(0f);
+        assertFalse(view.isDimAnimating());
+    }
+
+    @Test
+    public void cancel_keepsCurrentValues() {
+        view.animateDimPercentages(fill(1f), DURATION, null);
+        drawAt(DURATION / 2);
+        view.cancelDimAnimation();
+        assertFalse(view.isDimAnimating());
+
+        view.posts = 0;
+        drawAt(DURATION);
+        assertDims(0.5f);
+        assertEquals(0, view.posts);
+    }
+
+    @Test
+    public void frames_doNotAllocate() {
+        view.animateDimPercentages(fill(1f), DURATION * 10, null);
+        // 预热一帧
+        drawAt(1);
+
+        Debug.resetThreadAllocCount();
+        Debug.startAllocCounting();
+        for (int frame = 2; frame < DURATION * 10; frame += 16) {
+            drawAt(frame);
+        }
+        Debug.stopAllocCounting();
+        assertEquals(0, Debug.getThreadAllocCount());
+        assertTrue(view.isDimAnimating());
+    }
+
+    private void drawAt(long time) {
+        view.now = time;
+        view.draw(canvas);
+    }
+
+    private void assertDims(float expected) {
+        for (int index = 0; index < SIDES; index++) {
+            assertEquals(expected, view.getDimPercentage(index), DELTA);
+        }
+    }
+
+    private static float[] fill(float value) {
+        return TestViews.fill(SIDES, value);
+    }
+
+    /**
+     * 使用注入的时间，记录下一帧请求
+     */
+    private static final class FakeTimeView extends SimplePolygonView {
+        long now;
+        int posts;
+
+        FakeTimeView(Context context) {
+            super(context);
+        }
+
+        @Override
+        long currentAnimationTimeMillis() {
+            return now;
+        }
+
+        @Override
+        public void postInvalidateOnAnimation() {
+            posts++;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.lyldding.library;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.Rect;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.view.View;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 软件绘制下只有维度数据变化时重绘新旧维度区域包围盒的并集。
+ * 按绘制结果检查：前后两帧所有不同的像素和维度顶点圆都在重绘区域内
+ */
+@RunWith(AndroidJUnit4.class)
+public class DimInvalidateTest {
+    private static final int SIDES = 6;
+    /**
+     * 维度顶点圆的颜色，网格和维度区域不会画出这个颜色
+     */
+    private static final int CIRCLE_COLOR = Color.GREEN;
+    private static final float[] SMALL = {0.1f, 0.1f, 0.1f, 0.1f, 0.1f, 0.1f};
+    private static final float[] LARGER = {0.1f, 0.5f, 0.1f, 0.1f, 0.1f, 0.1f};
+
+    @Test
+    public void dimChange_coversChangedPixels() {
+        assertDirtyCoversChange(newView(0));
+    }
+
+    @Test
+    public void rotatedDimChange_coversChangedPixels() {
+        assertDirtyCoversChange(newView(45));
+    }
+
+    @Test
+    public void beforeFirstDraw_invalidatesWholeView() {
+        RecordingView view = newView(0);
+        view.reset();
+        view.setDimPercentages(new float[]{0.5f, 0.5f, 0.5f, 0.5f, 0.5f, 0.5f});
+        assertTrue(view.isFullInvalidate);
+    }
+
+    @Test
+    public void hardwareAccelerated_invalidatesWholeView() {
+        RecordingView view = newView(0);
+        view.setDimPercentages(SMALL);
+        TestViews.drawToBitmap(view).recycle();
+
+        // 硬件加速时重绘区域被忽略
+        view.isHardwareAccelerated = true;
+        view.reset();
+        view.setDimPercentages(LARGER);
+        assertTrue(view.isFullInvalidate);
+        assertTrue(view.dirty.isEmpty());
+    }
+
+    private static void assertDirtyCoversChange(RecordingView view) {
+        view.setDimPercentages(SMALL);
+        Bitmap before = TestViews.drawToBitmap(view);
+
+        view.reset();
+        view.setDimPercentages(LARGER);
+        assertFalse(view.isFullInvalidate);
+        assertFalse(view.dirty.isEmpty());
+        Rect dirty = new Rect(view.dirty);
+        Bitmap after = TestViews.drawToBitmap(view);
+
+        // 在 View 内，且小范围变化时小于整个 View
+        assertTrue(dirty.toString(), dirty.left >= 0 && dirty.top >= 0
+                && dirty.right <= view.getWidth() && dirty.bottom <= view.getHeight());
+        assertTrue(dirty.toString(), dirty.width() < view.getWidth() && dirty.height() < view.getHeight());
+
+        int changed = 0;
+        int circles = 0;
+        for (int y = 0; y < view.getHeight(); y++) {
+            for (int x = 0; x < view.getWidth(); x++) {
+                int oldPixel = before.getPixel(x, y);
+                int newPixel = after.getPixel(x, y);
+                if (oldPixel != newPixel) {
+                    changed++;
+                    assertTrue("changed pixel (" + x + ", " + y + ") outside " + dirty, dirty.contains(x, y));
+                }
+                if (oldPixel == CIRCLE_COLOR || newPixel == CIRCLE_COLOR) {
+                    circles++;
+                    assertTrue("dim circle (" + x + ", " + y + ") outside " + dirty, dirty.contains(x, y));
+                }
+            }
+        }
+        assertTrue(changed > 0);
+        assertTrue(circles > 0);
+        before.recycle();
+        after.recycle();
+    }
+
+    private static RecordingView newView(int rotation) {
+        RecordingView view = TestViews.showDims(new RecordingView(InstrumentationRegistry.getTargetContext()), new float[SIDES]);
+        view.setPolygonRotation(rotation);
+        view.setColorDimCircle(CIRCLE_COLOR);
+        view.setColorDimCircleBackground(CIRCLE_COLOR);
+        return TestViews.layout(view);
+    }
+
+    /**
+     * 记录重绘请求
+     */
+    private static final class RecordingView extends SimplePolygonView {
+        final Rect dirty = new Rect();
+        boolean isFullInvalidate;
+        boolean isHardwareAccelerated;
+
+        RecordingView(Context context) {
+            super(context);
+        }
+
+        void reset() {
+            dirty.setEmpty();
+            isFullInvalidate = false;
+        }
+
+        @Override
+        public void invalidate() {
+            isFullInvalidate = true;
+            super.invalidate();
+        }
+
+        @Override
+        public boolean isHardwareAccelerated() {
+            return isHardwareAccelerated;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public void invalidate(int l, int t, int r, int b) {
+            dirty.union(l, t, r, b);
+            super.invalidate(l, t, r, b);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 多组维度数据：连续存放的偏移、颜色数组检查、边数变化时清空
+ */
+@RunWith(AndroidJUnit4.class)
+public class DimSeriesTest {
+    private static final int SIDES = 5;
+    private static final float[] TARGET = {0.9f, 0.3f, 0.7f, 0.5f, 1.0f};
+
+    @Test
+    public void series_readFromPackedOffset() {
+        // 第 0 组全透明，第 1 组从 sides 开始读取，结果应与单独绘制第 1 组相同
+        float[] packed = new float[SIDES * 2];
+        System.arraycopy(TARGET, 0, packed, SIDES, SIDES);
+        SimplePolygonView packedView = newView();
+        packedView.setDimSeries(packed, 2, new int[]{Color.TRANSPARENT, Color.RED}, new int[]{Color.TRANSPARENT, Color.BLUE});
+
+        SimplePolygonView singleView = newView();
+        singleView.setDimSeries(TARGET, 1, new int[]{Color.RED}, new int[]{Color.BLUE});
+
+        SimplePolygonView emptyView = newView();
+
+        Bitmap packedBitmap = TestViews.drawToBitmap(packedView);
+        Bitmap singleBitmap = TestViews.drawToBitmap(singleView);
+        Bitmap emptyBitmap = TestViews.drawToBitmap(emptyView);
+        assertTrue(packedBitmap.sameAs(singleBitmap));
+        assertFalse(packedBitmap.sameAs(emptyBitmap));
+        packedBitmap.recycle();
+        singleBitmap.recycle();
+        emptyBitmap.recycle();
+    }
+
+    @Test
+    public void shortFillColors_rejected() {
+        SimplePolygonView view = newView();
+        try {
+            view.setDimSeries(new float[SIDES * 2], 2, new int[1], new int[2]);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertEquals(0, view.getDimSeriesCount());
+        }
+    }
+
+    @Test
+    public void shortStrokeColors_rejected() {
+        SimplePolygonView view = newView();
+        try {
+            view.setDimSeries(new float[SIDES * 2], 2, new int[2], new int[1]);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertEquals(0, view.getDimSeriesCount());
+        }
+    }
+
+    @Test
+    public void shortPercentages_rejected() {
+        SimplePolygonView view = newView();
+        try {
+            view.setDimSeries(new float[SIDES * 2 - 1], 2, new int[2], new int[2]);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertEquals(0, view.getDimSeriesCount());
+        }
+    }
+
+    @Test
+    public void sidesChange_clearsSeries() {
+        SimplePolygonView view = newView();
+        view.setDimSeries(new float[SIDES * 2], 2, new int[2], new int[2]);
+        assertEquals(2, view.getDimSeriesCount());
+
+        view.setPolygonSides(SIDES);
+        assertEquals(2, view.getDimSeriesCount());
+
+        view.setPolygonSides(SIDES + 1);
+        view.setDimPercentages(new float[SIDES + 1]);
+        assertEquals(0, view.getDimSeriesCount());
+        // 旧数据按新边数读取会越界
+        TestViews.drawToBitmap(view).recycle();
+    }
+
+    private static SimplePolygonView newView() {
+        return TestViews.newLaidOutView(new float[SIDES]);
+    }
+}
@@ -0,0 +1,106 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 对比逐个绘制与批量绘制顶点连线、维度顶点圆的绘制调用数和每帧耗时
+ */
+@RunWith(AndroidJUnit4.class)
+public class DrawModeBenchmarkTest {
+    private static final String TAG = "DrawModeBenchmarkTest";
+    private static final int SIDES = 64;
+    private static final int WARMUP = 100;
+    private static final int FRAMES = 1000;
+
+    @Test
+    public void batchedDraw_issuesFewerCalls() {
+        Result separate = measure(false);
+        Result batched = measure(true);
+        Log.i(TAG, "separate: " + separate);
+        Log.i(TAG, "batched: " + batched);
+
+        // 逐个绘制：SIDES 次 drawPath 连线 + 2 * SIDES 次 drawCircle；批量绘制：1 次 drawLines + 2 次 drawPoints
+        assertTrue(batched.drawCalls + 3 * SIDES - 3 <= separate.drawCalls);
+    }
+
+    private Result measure(boolean batchDraw) {
+        float[] dims = new float[SIDES];
+        for (int index = 0; index < SIDES; index++) {
+            dims[index] = (index % 10 + 1) / 10f;
+        }
+        SimplePolygonView view = TestViews.newView(dims);
+        view.setPolygonBatchDrawEnabled(batchDraw);
+        TestViews.layout(view);
+
+        Bitmap bitmap = TestViews.createBitmap(view);
+        CountingCanvas canvas = new CountingCanvas(bitmap);
+        for (int frame = 0; frame < WARMUP; frame++) {
+            view.draw(canvas);
+        }
+        canvas.drawCalls = 0;
+        long start = System.nanoTime();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            view.draw(canvas);
+        }
+        Result result = new Result();
+        result.frameNanos = (System.nanoTime() - start) / FRAMES;
+        result.drawCalls = canvas.drawCalls / FRAMES;
+        bitmap.recycle();
+        return result;
+    }
+
+    private static final class Result {
+        long frameNanos;
+        long drawCalls;
+
+        @Override
+        public String toString() {
+            return "frame = " + frameNanos + "ns, draw calls per frame = " + drawCalls;
+        }
+    }
+
+    /**
+     * 统计每帧的绘制调用数
+     */
+    private static final class CountingCanvas extends Canvas {
+        long drawCalls;
+
+        CountingCanvas(Bitmap bitmap) {
+            super(bitmap);
+        }
+
+        @Override
+        public void drawPath(Path path, Paint paint) {
+            drawCalls++;
+            super.drawPath(path, paint);
+        }
+
+        @Override
+        public void drawLines(float[] pts, int offset, int count, Paint paint) {
+            drawCalls++;
+            super.drawLines(pts, offset, count, paint);
+        }
+
+        @Override
+        public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+            drawCalls++;
+            super.drawPoints(pts, offset, count, paint);
+        }
+
+        @Override
+        public void drawCircle(float cx, float cy, float radius, Paint paint) {
+            drawCalls++;
+            super.drawCircle(cx, cy, radius, paint);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 绘制参数只在布局或属性变化后重新编译，重复绘制结果一致
+ */
+@RunWith(AndroidJUnit4.class)
+public class DrawPlanTest {
+
+    @Test
+    public void repeatedFrames_drawIdentically() {
+        SimplePolygonView view = newView();
+        Bitmap first = TestViews.drawToBitmap(view);
+        for (int frame = 0; frame < 10; frame++) {
+            TestViews.drawToBitmap(view).recycle();
+        }
+        Bitmap last = TestViews.drawToBitmap(view);
+        assertTrue(first.sameAs(last));
+        first.recycle();
+        last.recycle();
+    }
+
+    @Test
+    public void setterAndPadding_recompilePlan() {
+        SimplePolygonView view = newView();
+        Bitmap original = TestViews.drawToBitmap(view);
+
+        view.setPolygonRotation(30);
+        Bitmap rotated = TestViews.drawToBitmap(view);
+        assertFalse(original.sameAs(rotated));
+
+        view.setPolygonRotation(0);
+        view.setPadding(40, 40, 0, 40);
+        TestViews.layout(view);
+        Bitmap padded = TestViews.drawToBitmap(view);
+        assertFalse(original.sameAs(padded));
+
+        original.recycle();
+        rotated.recycle();
+        padded.recycle();
+    }
+
+    @Test
+    public void rightPaddingOnly_clipsRightEdge() {
+        SimplePolygonView view = newView();
+        Bitmap original = TestViews.drawToBitmap(view);
+
+        // 只改右内边距也要重新编译，裁剪右边使用右内边距
+        view.setPadding(0, 0, 40, 0);
+        TestViews.layout(view);
+        Bitmap padded = TestViews.drawToBitmap(view);
+        assertFalse(original.sameAs(padded));
+        int y = view.getHeight() / 2;
+        assertEquals(0, padded.getPixel(view.getWidth() - 40 + 1, y));
+
+        original.recycle();
+        padded.recycle();
+    }
+
+    private static SimplePolygonView newView() {
+        return TestViews.newLaidOutView(new float[]{0.2f, 0.4f, 0.6f, 0.8f, 1f, 0.5f});
+    }
+}
@@ -0,0 +1,84 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 网格位图缓存与直接绘制输出一致，网格属性变化后重新绘制缓存
+ */
+@RunWith(AndroidJUnit4.class)
+public class GridCacheTest {
+    private static final float[] DIMS = {0.2f, 0.4f, 0.6f, 0.8f, 1f};
+    private static final float[] SEVEN_DIMS = {0.2f, 0.3f, 0.4f, 0.5f, 0.6f, 0.7f, 0.8f};
+
+    private SimplePolygonView cached;
+    private SimplePolygonView direct;
+
+    @Before
+    public void setUp() {
+        cached = TestViews.newView(DIMS);
+        cached.setPolygonGridCacheEnabled(true);
+        TestViews.layout(cached);
+        direct = TestViews.newLaidOutView(DIMS);
+    }
+
+    @Test
+    public void cachedGrid_matchesDirectDraw() {
+        Bitmap before = assertSameOutput();
+        // 第二帧直接使用缓存
+        assertTrue(before.sameAs(assertSameOutput()));
+    }
+
+    @Test
+    public void setPolygonSides_redrawsCache() {
+        Bitmap before = assertSameOutput();
+        TestViews.showDims(cached, SEVEN_DIMS);
+        TestViews.showDims(direct, SEVEN_DIMS);
+        assertFalse(before.sameAs(assertSameOutput()));
+    }
+
+    @Test
+    public void setColorPolygonStroke_redrawsCache() {
+        Bitmap before = assertSameOutput();
+        cached.setColorPolygonStroke(Color.RED);
+        direct.setColorPolygonStroke(Color.RED);
+        assertFalse(before.sameAs(assertSameOutput()));
+    }
+
+    @Test
+    public void setPolygonCornerRadius_redrawsCache() {
+        Bitmap before = assertSameOutput();
+        cached.setPolygonCornerRadius(20);
+        direct.setPolygonCornerRadius(20);
+        assertFalse(before.sameAs(assertSameOutput()));
+    }
+
+    @Test
+    public void setPolygonRadiusMax_redrawsCache() {
+        Bitmap before = assertSameOutput();
+        cached.setPolygonRadiusMax(60);
+        direct.setPolygonRadiusMax(60);
+        TestViews.layout(cached);
+        TestViews.layout(direct);
+        assertFalse(before.sameAs(assertSameOutput()));
+    }
+
+    /**
+     * @return 缓存 View 的绘制结果
+     */
+    private Bitmap assertSameOutput() {
+        Bitmap cachedBitmap = TestViews.drawToBitmap(cached);
+        Bitmap directBitmap = TestViews.drawToBitmap(direct);
+        assertTrue(cachedBitmap.sameAs(directBitmap));
+        directBitmap.recycle();
+        return cachedBitmap;
+    }
+}
@@ -0,0 +1,95 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 绘制半径低于阈值时去掉内层的边、维度顶点圆和抗锯齿
+ */
+@RunWith(AndroidJUnit4.class)
+public class LevelOfDetailTest {
+    private static final int SIDES = 6;
+    private static final int LAYERS = 4;
+
+    @Test
+    public void largeChart_keepsFullDetail() {
+        RecordingCanvas canvas = draw(100, true);
+        // 每层一条边 + 指定内层填充 + 维度区域填充和边
+        assertEquals(LAYERS + 1 + 2, canvas.drawPaths);
+        assertEquals(2, canvas.drawPoints);
+        assertTrue(canvas.isAntiAlias);
+    }
+
+    @Test
+    public void thumbnail_dropsDetail() {
+        RecordingCanvas canvas = draw(10, true);
+        // 最外层边 + 指定内层填充 + 维度区域填充和边
+        assertEquals(1 + 1 + 2, canvas.drawPaths);
+        assertEquals(0, canvas.drawPoints);
+        assertFalse(canvas.isAntiAlias);
+    }
+
+    @Test
+    public void thumbnail_keepsDetailWhenDisabled() {
+        RecordingCanvas canvas = draw(10, false);
+        assertEquals(LAYERS + 1 + 2, canvas.drawPaths);
+        assertEquals(2, canvas.drawPoints);
+        assertTrue(canvas.isAntiAlias);
+    }
+
+    private static RecordingCanvas draw(int radiusMax, boolean levelOfDetail) {
+        float[] dims = new float[SIDES];
+        for (int index = 0; index < SIDES; index++) {
+            dims[index] = (index + 1f) / (SIDES + 1f);
+        }
+        SimplePolygonView view = TestViews.newView(dims);
+        view.setPolygonLayers(LAYERS);
+        view.setPolygonInnerLayer(1);
+        view.setPolygonOuterStrokeWidth(1);
+        view.setPolygonRadiusMax(radiusMax);
+        view.setPolygonLevelOfDetailEnabled(levelOfDetail);
+        TestViews.layout(view);
+
+        Bitmap bitmap = TestViews.createBitmap(view);
+        RecordingCanvas canvas = new RecordingCanvas(bitmap);
+        view.draw(canvas);
+        bitmap.recycle();
+        return canvas;
+    }
+
+    /**
+     * 统计路径和点的绘制调用，记录最后一次绘制路径的抗锯齿状态
+     */
+    private static final class RecordingCanvas extends Canvas {
+        int drawPaths;
+        int drawPoints;
+        boolean isAntiAlias;
+
+        RecordingCanvas(Bitmap bitmap) {
+            super(bitmap);
+        }
+
+        @Override
+        public void drawPath(Path path, Paint paint) {
+            drawPaths++;
+            isAntiAlias = paint.isAntiAlias();
+            super.drawPath(path, paint);
+        }
+
+        @Override
+        public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+            drawPoints++;
+            super.drawPoints(pts, offset, count, paint);
+        }
+    }
+}
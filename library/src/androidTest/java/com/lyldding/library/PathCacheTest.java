@@ -0,0 +1,71 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Path;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 多边形路径缓存
+ */
+@RunWith(AndroidJUnit4.class)
+public class PathCacheTest {
+    private PolygonDrawHelper helper;
+
+    @Before
+    public void setUp() {
+        helper = PolygonDrawHelper.getInstance();
+        helper.clearPathCache();
+    }
+
+    @Test
+    public void obtainPolygonPath_sameGeometryHitsCache() {
+        long hits = helper.getPathCacheHitCount();
+        long misses = helper.getPathCacheMissCount();
+
+        Path first = helper.obtainPolygonPath(5, 100, 10);
+        Path second = helper.obtainPolygonPath(5, 100, 10);
+        Path other = helper.obtainPolygonPath(5, 100, 12);
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(hits + 1, helper.getPathCacheHitCount());
+        assertEquals(misses + 2, helper.getPathCacheMissCount());
+    }
+
+    @Test
+    public void onDraw_steadyStateDoesNotRebuildPaths() {
+        SimplePolygonView view = TestViews.layout(new SimplePolygonView(InstrumentationRegistry.getTargetContext()));
+        Bitmap bitmap = TestViews.createBitmap(view);
+        Canvas canvas = new Canvas(bitmap);
+
+        view.draw(canvas);
+        long hits = helper.getPathCacheHitCount();
+        long misses = helper.getPathCacheMissCount();
+        for (int frame = 0; frame < 100; frame++) {
+            view.draw(canvas);
+        }
+        assertEquals(hits, helper.getPathCacheHitCount());
+        assertEquals(misses, helper.getPathCacheMissCount());
+
+        // 几何参数不变时不应触发重建
+        view.setPolygonLayers(3);
+        view.draw(canvas);
+        assertEquals(misses, helper.getPathCacheMissCount());
+
+        // 最外层几何参数不变，仍然命中缓存
+        view.setPolygonLayers(4);
+        view.draw(canvas);
+        assertEquals(misses + 3, helper.getPathCacheMissCount());
+        bitmap.recycle();
+    }
+}
@@ -0,0 +1,102 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Debug;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 坐标缓存在反复重绘时不应增长
+ */
+@RunWith(AndroidJUnit4.class)
+public class PointBufferTest {
+    private static final int SIDES = 6;
+    private static final int FRAMES = 5000;
+
+    @Test
+    public void computePoint_keepsListSizeEqualToSides() {
+        List<Float> pointListX = new ArrayList<>();
+        List<Float> pointListY = new ArrayList<>();
+        List<Float> dimPercentages = createDimPercentages();
+
+        for (int frame = 0; frame < FRAMES; frame++) {
+            PolygonDrawHelper.getInstance().computeVertexPoint(pointListX, pointListY, 200, SIDES, 10);
+            assertEquals(SIDES, pointListX.size());
+            assertEquals(SIDES, pointListY.size());
+
+            PolygonDrawHelper.getInstance().computeDimPoint(pointListX, pointListY, dimPercentages, 200, SIDES);
+            assertEquals(SIDES, pointListX.size());
+            assertEquals(SIDES, pointListY.size());
+        }
+    }
+
+    @Test
+    public void computePoint_primitiveMatchesList() {
+        List<Float> pointListX = new ArrayList<>();
+        List<Float> pointListY = new ArrayList<>();
+        List<Float> dimPercentages = createDimPercentages();
+        float[] dims = new float[SIDES + 1];
+        for (int index = 0; index < SIDES; index++) {
+            dims[index + 1] = dimPercentages.get(index);
+        }
+        // 偏移 2 个值，模拟多个图表共用一个数组
+        float[] points = new float[SIDES * 2 + 2];
+
+        PolygonDrawHelper.getInstance().computeVertexPoint(pointListX, pointListY, 200, SIDES, 10);
+        PolygonDrawHelper.getInstance().computeVertexPoint(points, 2, 200, SIDES, 10);
+        assertPointsEqual(pointListX, pointListY, points, 2);
+
+        PolygonDrawHelper.getInstance().computeDimPoint(pointListX, pointListY, dimPercentages, 200, SIDES);
+        PolygonDrawHelper.getInstance().computeDimPoint(points, 2, dims, 1, 200, SIDES);
+        assertPointsEqual(pointListX, pointListY, points, 2);
+    }
+
+    @Test
+    public void onDraw_doesNotAllocate() {
+        List<Float> dimPercentages = createDimPercentages();
+        float[] dims = new float[SIDES];
+        for (int index = 0; index < SIDES; index++) {
+            dims[index] = dimPercentages.get(index);
+        }
+        SimplePolygonView view = TestViews.newLaidOutView(dims);
+
+        Bitmap bitmap = TestViews.createBitmap(view);
+        Canvas canvas = new Canvas(bitmap);
+
+        // 预热，排除首帧初始化的影响
+        view.draw(canvas);
+        Debug.resetThreadAllocCount();
+        Debug.startAllocCounting();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            view.draw(canvas);
+        }
+        Debug.stopAllocCounting();
+        int allocations = Debug.getThreadAllocCount();
+        bitmap.recycle();
+
+        assertEquals(0, allocations);
+    }
+
+    private static void assertPointsEqual(List<Float> pointListX, List<Float> pointListY, float[] points, int offset) {
+        for (int index = 0; index < SIDES; index++) {
+            assertEquals(pointListX.get(index), points[offset + index * 2], 0f);
+            assertEquals(pointListY.get(index), points[offset + index * 2 + 1], 0f);
+        }
+    }
+
+    private static List<Float> createDimPercentages() {
+        List<Float> dimPercentages = new ArrayList<>();
+        for (int index = 0; index < SIDES; index++) {
+            dimPercentages.add((index + 1f) / (SIDES + 1f));
+        }
+        return dimPercentages;
+    }
+}
@@ -0,0 +1,58 @@
+package com.lyldding.library;
+
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 高频提交时只应用最新数据，提交数 = 丢弃数 + 应用数
+ */
+@RunWith(AndroidJUnit4.class)
+public class PolygonDataSinkTest {
+    private static final int SIDES = 6;
+    private static final int UPDATES = 2000;
+
+    private PolygonDataSink sink;
+
+    @Test
+    public void post_coalescesBurstsIntoFrames() throws Exception {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                SimplePolygonView view = new SimplePolygonView(InstrumentationRegistry.getTargetContext());
+                view.setPolygonSides(SIDES);
+                sink = new PolygonDataSink(view);
+            }
+        });
+
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                float[] values = new float[SIDES];
+                for (int update = 0; update < UPDATES; update++) {
+                    for (int index = 0; index < SIDES; index++) {
+                        values[index] = (update % 100) / 100f;
+                    }
+                    sink.post(values);
+                }
+            }
+        });
+        producer.start();
+        producer.join();
+
+        long deadline = SystemClock.uptimeMillis() + 5000;
+        while (sink.getDroppedCount() + sink.getRenderedCount() < UPDATES && SystemClock.uptimeMillis() < deadline) {
+            SystemClock.sleep(16);
+        }
+        assertEquals(UPDATES, sink.getPostedCount());
+        assertEquals(UPDATES, sink.getDroppedCount() + sink.getRenderedCount());
+        assertTrue(sink.getRenderedCount() >= 1);
+        assertTrue("rendered " + sink.getRenderedCount(), sink.getRenderedCount() < UPDATES);
+    }
+}
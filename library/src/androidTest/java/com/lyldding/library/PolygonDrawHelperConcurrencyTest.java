@@ -0,0 +1,121 @@
+package com.lyldding.library;
+
+import android.graphics.Path;
+import android.graphics.RectF;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 多线程同时构建路径，结果应与单线程一致
+ */
+@RunWith(AndroidJUnit4.class)
+public class PolygonDrawHelperConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 500;
+    private static final int[] SIDES = {3, 5, 6, 8, 12};
+    private static final float[] RADII = {40f, 100f, 250f};
+    private static final float[] CORNER_RADII = {0f, 7f, 20f};
+
+    @Test
+    public void constructPolygonPath_concurrentMatchesSequential() throws Exception {
+        final PolygonDrawHelper helper = PolygonDrawHelper.getInstance();
+        final RectF[] expected = new RectF[SIDES.length * RADII.length * CORNER_RADII.length];
+        for (int i = 0; i < expected.length; i++) {
+            Path path = new Path();
+            construct(helper, path, i);
+            expected[i] = new RectF();
+            path.computeBounds(expected[i], true);
+        }
+        helper.clearPathCache();
+
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Path[]>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int seed = thread;
+                futures.add(executor.submit(new Callable<Path[]>() {
+                    @Override
+                    public Path[] call() throws Exception {
+                        start.await();
+                        Path own = new Path();
+                        RectF bounds = new RectF();
+                        Path[] cached = new Path[expected.length];
+                        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                            int index = (iteration * 7 + seed) % expected.length;
+                            construct(helper, own, index);
+                            own.computeBounds(bounds, true);
+                            assertBoundsEqual(expected[index], bounds);
+
+                            cached[index] = obtain(helper, index);
+                            cached[index].computeBounds(bounds, true);
+                            assertBoundsEqual(expected[index], bounds);
+                        }
+                        return cached;
+                    }
+                }));
+            }
+            start.countDown();
+
+            Path[] first = null;
+            for (Future<Path[]> future : futures) {
+                Path[] cached = future.get(60, TimeUnit.SECONDS);
+                if (first == null) {
+                    first = cached;
+                    continue;
+                }
+                for (int index = 0; index < cached.length; index++) {
+                    if (first[index] != null && cached[index] != null) {
+                        // 缓存只保留一个实例
+                        assertSame(first[index], cached[index]);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static void construct(PolygonDrawHelper helper, Path path, int index) {
+        helper.constructPolygonPath(path, sides(index), 0, 0, radius(index), cornerRadius(index));
+    }
+
+    private static Path obtain(PolygonDrawHelper helper, int index) {
+        return helper.obtainPolygonPath(sides(index), radius(index), cornerRadius(index));
+    }
+
+    private static int sides(int index) {
+        return SIDES[index % SIDES.length];
+    }
+
+    private static float radius(int index) {
+        return RADII[(index / SIDES.length) % RADII.length];
+    }
+
+    private static float cornerRadius(int index) {
+        return CORNER_RADII[index / (SIDES.length * RADII.length)];
+    }
+
+    private static void assertBoundsEqual(RectF expected, RectF actual) {
+        assertEquals(expected.left, actual.left, 0f);
+        assertEquals(expected.top, actual.top, 0f);
+        assertEquals(expected.right, actual.right, 0f);
+        assertEquals(expected.bottom, actual.bottom, 0f);
+    }
+}
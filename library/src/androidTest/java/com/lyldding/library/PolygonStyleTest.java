@@ -0,0 +1,54 @@
+package com.lyldding.library;
+
+import android.graphics.Color;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 相同样式共享画笔
+ */
+@RunWith(AndroidJUnit4.class)
+public class PolygonStyleTest {
+
+    @Test
+    public void obtain_sameAttributesShareInstance() {
+        PolygonStyle first = obtain(Color.BLACK, 4f);
+        PolygonStyle second = obtain(Color.BLACK, 4f);
+        assertSame(first, second);
+        assertNotSame(first, obtain(Color.BLUE, 4f));
+        assertNotSame(first, obtain(Color.BLACK, 6f));
+        assertNotSame(first, PolygonStyle.obtain(Color.BLACK, Color.LTGRAY, Color.GRAY, 0x44FFDEAD, Color.YELLOW,
+                Color.WHITE, Color.RED, 4f, 5f, 4f, false));
+    }
+
+    @Test
+    public void obtain_withoutAntiAlias() {
+        PolygonStyle style = PolygonStyle.obtain(Color.BLACK, Color.LTGRAY, Color.GRAY, 0x44FFDEAD, Color.YELLOW,
+                Color.WHITE, Color.RED, 4f, 5f, 4f, false);
+        assertFalse(style.outerStrokePaint.isAntiAlias());
+        assertFalse(style.dimCirclePointPaint.isAntiAlias());
+        assertTrue(obtain(Color.BLACK, 4f).outerStrokePaint.isAntiAlias());
+    }
+
+    @Test
+    public void obtain_separatesCircleAndStrokePaints() {
+        PolygonStyle style = obtain(Color.BLACK, 4f);
+        assertEquals(Color.WHITE, style.dimCircleBackgroundPaint.getColor());
+        assertEquals(Color.RED, style.dimCirclePaint.getColor());
+        assertEquals(1f, style.layerStrokePaint.getStrokeWidth(), 0f);
+        assertEquals(4f, style.outerStrokePaint.getStrokeWidth(), 0f);
+    }
+
+    private static PolygonStyle obtain(int strokeColor, float outerStrokeWidth) {
+        return PolygonStyle.obtain(strokeColor, Color.LTGRAY, Color.GRAY, 0x44FFDEAD, Color.YELLOW,
+                Color.WHITE, Color.RED, outerStrokeWidth, 5f, 4f, true);
+    }
+}
@@ -0,0 +1,130 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.view.View;
+
+import com.lyldding.geometry.PolygonSpec;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 只绘制可见行的图表，滑动后绘制新的可见行
+ */
+@RunWith(AndroidJUnit4.class)
+public class RadarGridViewTest {
+    private static final int SIDES = 6;
+    private static final int CHARTS = 200;
+    private static final int COLUMNS = 4;
+    private static final int VISIBLE_ROWS = 3;
+
+    @Test
+    public void onDraw_drawsOnlyVisibleCharts() {
+        RadarGridView view = newView();
+        CountingCanvas canvas = draw(view);
+        assertEquals(COLUMNS * VISIBLE_ROWS, canvas.templates);
+        // 每个图表的维度区域填充和边
+        assertEquals(COLUMNS * VISIBLE_ROWS * 2, canvas.paths);
+    }
+
+    @Test
+    public void scroll_movesVisibleRangeAndClampsToContent() {
+        RadarGridView view = newView();
+        int pitch = pitch(view);
+        view.scrollTo(0, pitch * 10);
+        assertEquals(pitch * 10, view.getScrollY());
+        assertEquals(COLUMNS * 10, view.getChartIndexAt(1, 1));
+        assertEquals(COLUMNS * VISIBLE_ROWS, draw(view).templates);
+
+        view.scrollTo(0, Integer.MAX_VALUE);
+        int rows = (CHARTS + COLUMNS - 1) / COLUMNS;
+        assertEquals(rows * pitch - (pitch - chartSize(view)) - view.getHeight(), view.getScrollY());
+    }
+
+    @Test
+    public void fullDims_stayInsideCell() {
+        RadarGridView view = newView();
+        float[] data = new float[CHARTS * SIDES];
+        for (int index = 0; index < data.length; index++) {
+            data[index] = 1f;
+        }
+        view.setData(data, CHARTS);
+        Bitmap bitmap = TestViews.drawToBitmap(view);
+
+        // 顶点圆不会画到图表之间的间距上
+        int size = chartSize(view);
+        int pitch = pitch(view);
+        for (int y = 0; y < view.getHeight(); y++) {
+            for (int x = 0; x < view.getWidth(); x++) {
+                if (x % pitch >= size || y % pitch >= size) {
+                    assertEquals("pixel (" + x + ", " + y + ")", 0, bitmap.getPixel(x, y));
+                }
+            }
+        }
+        bitmap.recycle();
+    }
+
+    private static RadarGridView newView() {
+        RadarGridView view = new RadarGridView(InstrumentationRegistry.getTargetContext());
+        view.setSpec(new PolygonSpec.Builder().sides(SIDES).radiusMax(20).showDim(true).build());
+        view.setChartSpacing(4);
+        float[] data = new float[CHARTS * SIDES];
+        for (int index = 0; index < data.length; index++) {
+            data[index] = (index % 10) / 10f;
+        }
+        view.setData(data, CHARTS);
+        int pitch = pitch(view);
+        view.measure(View.MeasureSpec.makeMeasureSpec(COLUMNS * pitch, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(VISIBLE_ROWS * pitch, View.MeasureSpec.EXACTLY));
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+        return view;
+    }
+
+    private static int chartSize(View view) {
+        return Utils.dp2px(view.getContext(), 20) * 2;
+    }
+
+    private static int pitch(View view) {
+        return chartSize(view) + Utils.dp2px(view.getContext(), 4);
+    }
+
+    private static CountingCanvas draw(View view) {
+        Bitmap bitmap = TestViews.createBitmap(view);
+        CountingCanvas canvas = new CountingCanvas(bitmap);
+        canvas.translate(0, -view.getScrollY());
+        view.draw(canvas);
+        bitmap.recycle();
+        return canvas;
+    }
+
+    /**
+     * 统计模板位图和路径的绘制次数
+     */
+    private static final class CountingCanvas extends Canvas {
+        int templates;
+        int paths;
+
+        CountingCanvas(Bitmap bitmap) {
+            super(bitmap);
+        }
+
+        @Override
+        public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+            templates++;
+            super.drawBitmap(bitmap, left, top, paint);
+        }
+
+        @Override
+        public void drawPath(Path path, Paint paint) {
+            paths++;
+            super.drawPath(path, paint);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.lyldding.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.support.test.InstrumentationRegistry;
+import android.view.View;
+
+/**
+ * instrumentation 测试共用的 View 准备和离屏绘制
+ */
+final class TestViews {
+
+    private TestViews() {
+    }
+
+    /**
+     * @param dims 维度值，边数为 dims.length
+     * @return 显示维度、尚未布局的 View
+     */
+    static SimplePolygonView newView(float[] dims) {
+        return showDims(new SimplePolygonView(InstrumentationRegistry.getTargetContext()), dims);
+    }
+
+    /**
+     * @param dims 维度值，边数为 dims.length
+     * @return 显示维度、按默认大小布局好的 View
+     */
+    static SimplePolygonView newLaidOutView(float[] dims) {
+        return layout(newView(dims));
+    }
+
+    /**
+     * 按 dims 设置边数和维度值并显示维度
+     */
+    static <T extends SimplePolygonView> T showDims(T view, float[] dims) {
+        view.setPolygonSides(dims.length);
+        view.setDimPercentages(dims);
+        view.setPolygonShowDim(true);
+        return view;
+    }
+
+    /**
+     * 不限制大小测量后布局在原点
+     */
+    static <T extends View> T layout(T view) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+        return view;
+    }
+
+    /**
+     * @return 与 View 同样大小的空白位图
+     */
+    static Bitmap createBitmap(View view) {
+        return Bitmap.createBitmap(view.getWidth(), view.getHeight(), Bitmap.Config.ARGB_8888);
+    }
+
+    /**
+     * @return 绘制了 View 的新位图，由调用方回收
+     */
+    static Bitmap drawToBitmap(View view) {
+        Bitmap bitmap = createBitmap(view);
+        view.draw(new Canvas(bitmap));
+        return bitmap;
+    }
+
+    /**
+     * @return sides 个相同的维度值
+     */
+    static float[] fill(int sides, float value) {
+        float[] dims = new float[sides];
+        for (int index = 0; index < sides; index++) {
+            dims[index] = value;
+        }
+        return dims;
+    }
+}
@@ -0,0 +1,51 @@
+package com.lyldding.library;
+
+import android.graphics.Path;
+import android.graphics.RectF;
+
+import com.lyldding.geometry.PathSink;
+
+/**
+ * 把路径指令写入 {@link Path}。非线程安全，每个线程使用自己的实例。
+ *
+ * @author lyldding
+ */
+final class AndroidPathSink implements PathSink {
+    private final RectF oval = new RectF();
+    private Path path;
+
+    /**
+     * @param path 接收指令的路径，不会被重置
+     * @return this
+     */
+    AndroidPathSink wrap(Path path) {
+        this.path = path;
+        return this;
+    }
+
+    @Override
+    public void moveTo(float x, float y) {
+        path.moveTo(x, y);
+    }
+
+    @Override
+    public void lineTo(float x, float y) {
+        path.lineTo(x, y);
+    }
+
+    @Override
+    public void arcTo(float centerX, float centerY, float radius, float startAngle, float sweepAngle) {
+        oval.set(centerX - radius, centerY - radius, centerX + radius, centerY + radius);
+        path.arcTo(oval, startAngle, sweepAngle);
+    }
+
+    @Override
+    public void close() {
+        path.close();
+    }
+
+    @Override
+    public void addCircle(float centerX, float centerY, float radius) {
+        path.addCircle(centerX, centerY, radius, Path.Direction.CW);
+    }
+}
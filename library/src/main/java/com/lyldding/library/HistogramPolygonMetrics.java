@@ -0,0 +1,115 @@
+package com.lyldding.library;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 把每个阶段和整帧的耗时记录到按 2 的幂分桶的直方图中，不加锁，可以在任意线程读取。
+ * <p>
+ * 第 n 个桶记录 [2^(n-1), 2^n) 纳秒的样本，百分位数返回所在桶的上界。
+ *
+ * @author lyldding
+ */
+public class HistogramPolygonMetrics implements PolygonMetrics {
+    private static final int BUCKETS = 64;
+    /**
+     * 整帧耗时在直方图中的序号，排在各阶段之后
+     */
+    public static final int FRAME = PHASE_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((PHASE_COUNT + 1) * BUCKETS);
+    private final AtomicLongArray totalNanos = new AtomicLongArray(PHASE_COUNT + 1);
+    private final AtomicLong pathRebuilds = new AtomicLong();
+    private final AtomicLong pathCacheHits = new AtomicLong();
+    private final AtomicLong allocations = new AtomicLong();
+
+    @Override
+    public void onPhase(int phase, long nanos) {
+        record(phase, nanos);
+    }
+
+    @Override
+    public void onFrame(long nanos, long pathRebuilds, long pathCacheHits, long allocations) {
+        record(FRAME, nanos);
+        this.pathRebuilds.addAndGet(pathRebuilds);
+        this.pathCacheHits.addAndGet(pathCacheHits);
+        this.allocations.addAndGet(allocations);
+    }
+
+    private void record(int phase, long nanos) {
+        buckets.incrementAndGet(phase * BUCKETS + bucketOf(nanos));
+        totalNanos.addAndGet(phase, nanos);
+    }
+
+    private static int bucketOf(long nanos) {
+        return nanos <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * @param phase PHASE_ 常量或 {@link #FRAME}
+     * @return 样本数
+     */
+    public long getCount(int phase) {
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            count += buckets.get(phase * BUCKETS + bucket);
+        }
+        return count;
+    }
+
+    /**
+     * @param phase PHASE_ 常量或 {@link #FRAME}
+     * @return 总耗时，单位纳秒
+     */
+    public long getTotalNanos(int phase) {
+        return totalNanos.get(phase);
+    }
+
+    /**
+     * @param phase      PHASE_ 常量或 {@link #FRAME}
+     * @param percentile 0 - 100
+     * @return 百分位耗时的上界，单位纳秒；没有样本时为 0
+     */
+    public long getPercentileNanos(int phase, double percentile) {
+        long count = getCount(phase);
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets.get(phase * BUCKETS + bucket);
+            if (seen >= target && seen > 0) {
+                return bucket == 0 ? 0 : (bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public long getPathRebuilds() {
+        return pathRebuilds.get();
+    }
+
+    public long getPathCacheHits() {
+        return pathCacheHits.get();
+    }
+
+    public long getAllocations() {
+        return allocations.get();
+    }
+
+    /**
+     * 清空全部记录，与记录同时进行时可能保留少量样本
+     */
+    public void reset() {
+        for (int index = 0; index < buckets.length(); index++) {
+            buckets.set(index, 0);
+        }
+        for (int index = 0; index < totalNanos.length(); index++) {
+            totalNanos.set(index, 0);
+        }
+        pathRebuilds.set(0);
+        pathCacheHits.set(0);
+        allocations.set(0);
+    }
+}
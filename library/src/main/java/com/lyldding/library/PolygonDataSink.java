@@ -0,0 +1,186 @@
+package com.lyldding.library;
+
+import android.os.Build;
+import android.os.Looper;
+import android.support.annotation.AnyThread;
+import android.support.annotation.MainThread;
+import android.support.annotation.RequiresApi;
+import android.support.v4.view.ViewCompat;
+import android.view.Choreographer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 推送式的维度数据入口，可以在任意线程高频调用 {@link #post(float[])}。
+ * <p>
+ * 只保留最新一次的数据，每个 vsync 最多应用一次并重绘；在下一帧之前被新数据覆盖的更新计为丢弃。
+ * API 16 及以上由 {@link Choreographer} 调度，更低版本使用 {@link ViewCompat#postOnAnimation}。
+ *
+ * @author lyldding
+ */
+public final class PolygonDataSink {
+    private static final String TAG = "PolygonDataSink";
+
+    private final SimplePolygonView view;
+    private final Object lock = new Object();
+    /**
+     * 等待应用的最新数据，访问时锁住 lock
+     */
+    private float[] pending = new float[0];
+    private boolean hasPending;
+    /**
+     * UI 线程使用的数据副本
+     */
+    private float[] front = new float[0];
+
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+    private final AtomicLong postedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong renderedCount = new AtomicLong();
+
+    private final Runnable applyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            apply();
+        }
+    };
+    private final FrameScheduler scheduler;
+
+    /**
+     * 需要在主线程创建
+     *
+     * @param view 接收数据的 View
+     */
+    @MainThread
+    public PolygonDataSink(SimplePolygonView view) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            throw new IllegalStateException(TAG + " : should be created on the main thread");
+        }
+        this.view = view;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            scheduler = new ChoreographerScheduler(applyRunnable);
+        } else {
+            scheduler = new ViewScheduler(view, applyRunnable);
+        }
+    }
+
+    /**
+     * 提交一组维度值，数据会被拷贝。下一帧之前再次提交时覆盖本次数据。
+     *
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0
+     */
+    @AnyThread
+    public void post(float[] dimPercentages) {
+        for (float percentage : dimPercentages) {
+            if (percentage < 0.0 || percentage > 1.0) {
+                throw new IllegalArgumentException(TAG + " : percentage = " + percentage);
+            }
+        }
+        postedCount.incrementAndGet();
+        synchronized (lock) {
+            if (pending.length != dimPercentages.length) {
+                pending = new float[dimPercentages.length];
+            }
+            System.arraycopy(dimPercentages, 0, pending, 0, dimPercentages.length);
+            if (hasPending) {
+                droppedCount.incrementAndGet();
+            }
+            hasPending = true;
+        }
+        if (isScheduled.compareAndSet(false, true)) {
+            scheduler.schedule();
+        }
+    }
+
+    /**
+     * 主线程在下一帧调用，应用最新数据
+     */
+    private void apply() {
+        // 先清除标记，之后提交的数据会重新调度
+        isScheduled.set(false);
+        synchronized (lock) {
+            if (!hasPending) {
+                return;
+            }
+            if (front.length != pending.length) {
+                front = new float[pending.length];
+            }
+            System.arraycopy(pending, 0, front, 0, pending.length);
+            hasPending = false;
+        }
+        if (front.length != view.getSides()) {
+            // 边数已经变化，数据作废
+            droppedCount.incrementAndGet();
+            return;
+        }
+        view.setDimPercentages(front);
+        renderedCount.incrementAndGet();
+    }
+
+    /**
+     * @return 提交的更新数
+     */
+    public long getPostedCount() {
+        return postedCount.get();
+    }
+
+    /**
+     * @return 被后续更新覆盖或因边数变化作废的更新数
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return 应用到 View 的更新数
+     */
+    public long getRenderedCount() {
+        return renderedCount.get();
+    }
+
+    private interface FrameScheduler {
+        /**
+         * 在下一帧调用一次应用数据，可以在任意线程调用
+         */
+        void schedule();
+    }
+
+    @RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static final class ChoreographerScheduler implements FrameScheduler, Choreographer.FrameCallback {
+        /**
+         * 主线程的 Choreographer，postFrameCallback 可以在任意线程调用
+         */
+        private final Choreographer choreographer = Choreographer.getInstance();
+        private final Runnable action;
+
+        ChoreographerScheduler(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void schedule() {
+            choreographer.postFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            action.run();
+        }
+    }
+
+    private static final class ViewScheduler implements FrameScheduler {
+        private final SimplePolygonView view;
+        private final Runnable action;
+
+        ViewScheduler(SimplePolygonView view, Runnable action) {
+            this.view = view;
+            this.action = action;
+        }
+
+        @Override
+        public void schedule() {
+            ViewCompat.postOnAnimation(view, action);
+        }
+    }
+}
@@ -19,20 +19,52 @@ package com.lyldding.library;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Path;
-import android.graphics.RectF;
 import android.support.annotation.FloatRange;
 import android.support.annotation.IntRange;
 import android.support.annotation.NonNull;
 
+import com.lyldding.geometry.PolygonGeometry;
+import com.lyldding.geometry.PolygonTrigTable;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * 多边形路径和顶点计算。
+ * <p>
+ * 线程安全：临时对象按线程分配，路径缓存加锁访问，可以在后台线程并发构建路径。
+ *
  * @author lyldding
  */
 public class PolygonDrawHelper {
     private static final String TAG = "PolygonDrawHelper";
-    private Path tempPath = new Path();
-    private RectF tempRectF = new RectF();
+    /**
+     * 最多缓存的多边形路径数
+     */
+    private static final int MAX_CACHED_PATHS = 64;
+    /**
+     * 每个线程各自的临时对象
+     */
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    /**
+     * 按 (边数, 半径, 圆角半径) 缓存的多边形路径，按访问顺序淘汰，访问时锁住自身
+     */
+    private final LinkedHashMap<PathKey, Path> pathCache = new LinkedHashMap<PathKey, Path>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PathKey, Path> eldest) {
+            return size() > MAX_CACHED_PATHS;
+        }
+    };
+    private final AtomicLong pathCacheHitCount = new AtomicLong();
+    private final AtomicLong pathCacheMissCount = new AtomicLong();
 
     private PolygonDrawHelper() {
     }
@@ -63,15 +95,16 @@ public class PolygonDrawHelper {
             @FloatRange(from = 0) float cornerRadius,
             @NonNull final Paint paint) {
 
+        final Path path = scratch.get().path;
         constructPolygonPath(
-                tempPath,
+                path,
                 sideCount,
                 centerX,
                 centerY,
                 radius,
                 cornerRadius);
 
-        canvas.drawPath(tempPath, paint);
+        canvas.drawPath(path, paint);
     }
 
 
@@ -93,138 +126,111 @@ public class PolygonDrawHelper {
             @FloatRange(from = 0) float cornerRadius,
             @NonNull final Paint paint) {
 
+        final Path path = scratch.get().path;
         constructPolygonPath(
-                tempPath,
+                path,
                 sideCount,
                 centerX,
                 centerY,
                 radius,
                 cornerRadius);
 
-        canvas.drawPath(tempPath, paint);
+        canvas.drawPath(path, paint);
     }
 
     /**
-     * Constructs a regular polygonal {@link Path}.
+     * 获取以原点为中心的多边形路径，相同几何参数的路径只构建一次
+     * <p>
+     * 返回的 {@link Path} 由缓存持有，调用方不能修改。可以在任意线程调用，
+     * 多个线程同时构建同一几何参数的路径时只保留先放入缓存的一个。
      *
-     * @param path         the {@link Path} to be filled with polygon components. Will be reset.
-     * @param sideCount    the number of sides of the polygon
-     * @param centerX      the x-coordinate of the polygon center in pixels
-     * @param centerY      the y-coordinate of the polygon center in pixels
-     * @param outerRadius  the distance from the polygon center to any vertex (ignoring corner
-     *                     rounding) in pixels
-     * @param cornerRadius the radius of the rounding applied to each corner of the polygon in
-     *                     pixels
+     * @param sideCount    边数
+     * @param radius       半径
+     * @param cornerRadius 圆角半径
+     * @return 多边形路径
      */
-    private void constructPolygonPath(
-            @NonNull final Path path,
+    @NonNull
+    public Path obtainPolygonPath(
             @IntRange(from = 3) final int sideCount,
-            final float centerX,
-            final float centerY,
-            @FloatRange(from = 0, fromInclusive = false) final float outerRadius,
+            @FloatRange(from = 0, fromInclusive = false) final float radius,
             @FloatRange(from = 0) final float cornerRadius) {
-
-        path.reset();
-
-        final float inRadius = (float) (outerRadius * Math.cos(toRadians(180.0 / sideCount)));
-
-        if (inRadius < cornerRadius) {
-            /*
-             * If the supplied corner radius is too small, we default to the "incircle".
-             *   - https://web.archive.org/web/20170415150442/https://en.wikipedia.org/wiki/Regular_polygon
-             *   - https://web.archive.org/web/20170415150415/http://www.mathopenref.com/polygonincircle.html
-             */
-            path.addCircle(centerX, centerY, inRadius, Path.Direction.CW);
-        } else {
-            if (Math.abs(cornerRadius) < 0.01) {
-                constructNonRoundedPolygonPath(
-                        path,
-                        sideCount,
-                        outerRadius);
-            } else {
-                constructRoundedPolygonPath(
-                        path,
-                        sideCount,
-                        outerRadius,
-                        cornerRadius);
+        final PathKey lookupKey = scratch.get().lookupKey.set(sideCount, radius, cornerRadius);
+        Path path;
+        synchronized (pathCache) {
+            path = pathCache.get(lookupKey);
+        }
+        if (path != null) {
+            pathCacheHitCount.incrementAndGet();
+            return path;
+        }
+        pathCacheMissCount.incrementAndGet();
+        // 在锁外构建，避免阻塞其他线程
+        Path built = new Path();
+        constructPolygonPath(built, sideCount, 0, 0, radius, cornerRadius);
+        synchronized (pathCache) {
+            path = pathCache.get(lookupKey);
+            if (path == null) {
+                path = built;
+                pathCache.put(new PathKey().set(sideCount, radius, cornerRadius), path);
             }
         }
+        return path;
     }
 
-    private void constructRoundedPolygonPath(
-            @NonNull final Path path,
-            @IntRange(from = 3) final int sideCount,
-            @FloatRange(from = 0, fromInclusive = false) final float outerRadius,
-            @FloatRange(from = 0) final float cornerRadius) {
-        path.reset();
-        final double halfInteriorCornerAngle = 90 - (180.0 / sideCount);
-        final float halfCornerArcSweepAngle = (float) (90 - halfInteriorCornerAngle);
-        final double distanceToCornerArcCenter = outerRadius - cornerRadius / Math.sin(toRadians(halfInteriorCornerAngle));
-
-        for (int cornerNumber = 0; cornerNumber < sideCount; cornerNumber++) {
-            final double angleToCorner = cornerNumber * (360.0 / sideCount);
-            final float cornerCenterX = (float) (distanceToCornerArcCenter * Math.cos(toRadians(angleToCorner)));
-            final float cornerCenterY = (float) (distanceToCornerArcCenter * Math.sin(toRadians(angleToCorner)));
+    /**
+     * @return 路径缓存命中次数
+     */
+    public long getPathCacheHitCount() {
+        return pathCacheHitCount.get();
+    }
 
-            tempRectF.set(
-                    cornerCenterX - cornerRadius,
-                    cornerCenterY - cornerRadius,
-                    cornerCenterX + cornerRadius,
-                    cornerCenterY + cornerRadius);
+    /**
+     * @return 路径缓存未命中（即重新构建路径）次数
+     */
+    public long getPathCacheMissCount() {
+        return pathCacheMissCount.get();
+    }
 
-            /*
-             * Quoted from the arcTo documentation:
-             *
-             *   "Append the specified arc to the path as a new contour. If the start of the path is different from the
-             *    path's current last point, then an automatic lineTo() is added to connect the current contour to the
-             *    start of the arc. However, if the path is empty, then we call moveTo() with the first point of the
-             *    arc."
-             *
-             * We construct our polygon by sequentially drawing rounded corners using arcTo, and leverage the
-             * automatically-added moveTo/lineTo instructions to connect these corners with straight edges.
-             */
-            path.arcTo(
-                    tempRectF,
-                    (float) (angleToCorner - halfCornerArcSweepAngle),
-                    2 * halfCornerArcSweepAngle);
+    /**
+     * 清空路径缓存，已经取得的路径不受影响
+     */
+    public void clearPathCache() {
+        synchronized (pathCache) {
+            pathCache.clear();
         }
-
-        // Draw the final straight edge.
-        path.close();
     }
 
     /**
-     * 构建路径
+     * Constructs a regular polygonal {@link Path}. Safe to call from several threads at once as long
+     * as each caller passes its own {@link Path}. The geometry comes from
+     * {@link PolygonGeometry#constructPolygonPath}; this only replays it into the {@link Path}.
      *
-     * @param path      路径
-     * @param sideCount 边数
-     * @param radius    半径
+     * @param path         the {@link Path} to be filled with polygon components. Will be reset.
+     * @param sideCount    the number of sides of the polygon
+     * @param centerX      the x-coordinate of the polygon center in pixels
+     * @param centerY      the y-coordinate of the polygon center in pixels
+     * @param outerRadius  the distance from the polygon center to any vertex (ignoring corner
+     *                     rounding) in pixels
+     * @param cornerRadius the radius of the rounding applied to each corner of the polygon in
+     *                     pixels
      */
-    private void constructNonRoundedPolygonPath(
+    public void constructPolygonPath(
             @NonNull final Path path,
             @IntRange(from = 3) final int sideCount,
-            @FloatRange(from = 0, fromInclusive = false) final float radius) {
-        path.reset();
-        for (int index = 0; index < sideCount; index++) {
-            final double angleToCorner = index * (360.0 / sideCount);
-            final float cornerX = (float) (radius * Math.cos(toRadians(angleToCorner)));
-            final float cornerY = (float) (radius * Math.sin(toRadians(angleToCorner)));
+            final float centerX,
+            final float centerY,
+            @FloatRange(from = 0, fromInclusive = false) final float outerRadius,
+            @FloatRange(from = 0) final float cornerRadius) {
 
-            if (index == 0) {
-                path.moveTo(cornerX, cornerY);
-            } else {
-                path.lineTo(cornerX, cornerY);
-            }
-        }
-        path.close();
+        path.reset();
+        PolygonGeometry.constructPolygonPath(scratch.get().sink.wrap(path), sideCount, centerX, centerY, outerRadius, cornerRadius);
     }
 
-
     /**
      * 计算定点坐标
      *
-     * @param pointListX X轴坐标
-     * @param pointListY Y轴坐标
+     * @param pointListX X轴坐标，计算前会被清空
+     * @param pointListY Y轴坐标，计算前会被清空
      * @param radius     半径
      * @param sideCount  边数
      */
@@ -232,32 +238,36 @@ public class PolygonDrawHelper {
                                    @FloatRange(from = 0) float radius,
                                    @IntRange(from = 3) int sideCount,
                                    @FloatRange(from = 0) float cornerRadius) {
-        int realRadius = computeRealRadius(radius, cornerRadius, sideCount);
+        pointListX.clear();
+        pointListY.clear();
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
+        int realRadius = PolygonGeometry.computeRealRadius(radius, cornerRadius, table);
         for (int cornerNumber = 0; cornerNumber < sideCount; cornerNumber++) {
-            final double angleToCorner = cornerNumber * (360.0 / sideCount);
-            pointListX.add((float) (realRadius * Math.cos(toRadians(angleToCorner))));
-            pointListY.add((float) (realRadius * Math.sin(toRadians(angleToCorner))));
+            pointListX.add((float) (realRadius * table.cos(cornerNumber)));
+            pointListY.add((float) (realRadius * table.sin(cornerNumber)));
         }
     }
 
     /**
-     * 计算顶点的真实半径
+     * 计算定点坐标，坐标按 x、y 交错写入，不产生装箱对象
      *
-     * @param radius       半径
-     * @param cornerRadius 弧度半径
-     * @param sideCount    边数
-     * @return 真实半径
+     * @param points    坐标数组，从 offset 开始写入 sideCount * 2 个值
+     * @param offset    起始下标
+     * @param radius    半径
+     * @param sideCount 边数
      */
-    private int computeRealRadius(float radius, float cornerRadius, int sideCount) {
-        double angleToCorner = 90 - (360.0f / sideCount) / 2;
-        return (int) (radius - (cornerRadius / Math.sin(toRadians(angleToCorner)) - cornerRadius));
+    public void computeVertexPoint(float[] points, int offset,
+                                   @FloatRange(from = 0) float radius,
+                                   @IntRange(from = 3) int sideCount,
+                                   @FloatRange(from = 0) float cornerRadius) {
+        PolygonGeometry.computeVertexPoint(points, offset, radius, sideCount, cornerRadius);
     }
 
     /**
      * 计算维度坐标
      *
-     * @param pointListX     X轴坐标
-     * @param pointListY     Y轴坐标
+     * @param pointListX     X轴坐标，计算前会被清空
+     * @param pointListY     Y轴坐标，计算前会被清空
      * @param dimPercentages 各个维度值
      * @param radiusMax      半径最大值
      * @param sideCount      边数
@@ -268,17 +278,77 @@ public class PolygonDrawHelper {
         if (dimPercentages.size() != sideCount) {
             throw new IllegalArgumentException(TAG + " : sides != mDimPercentages.size()");
         }
+        pointListX.clear();
+        pointListY.clear();
+        final PolygonTrigTable table = PolygonTrigTable.of(sideCount);
         for (int index = 0; index < sideCount; index++) {
-            final double angleToCorner = index * (360.0 / sideCount);
             float radius = dimPercentages.get(index) * radiusMax;
-            pointListX.add((float) (radius * Math.cos(toRadians(angleToCorner))));
-            pointListY.add((float) (radius * Math.sin(toRadians(angleToCorner))));
+            pointListX.add((float) (radius * table.cos(index)));
+            pointListY.add((float) (radius * table.sin(index)));
         }
     }
 
+    /**
+     * 计算维度坐标，坐标按 x、y 交错写入，不产生装箱对象
+     *
+     * @param points         坐标数组，从 offset 开始写入 sideCount * 2 个值
+     * @param offset         起始下标
+     * @param dimPercentages 各个维度值，从 dimOffset 开始读取 sideCount 个值
+     * @param dimOffset      维度值起始下标
+     * @param radiusMax      半径最大值
+     * @param sideCount      边数
+     */
+    public void computeDimPoint(float[] points, int offset, float[] dimPercentages, int dimOffset,
+                                @FloatRange(from = 0) float radiusMax,
+                                @IntRange(from = 3) int sideCount) {
+        PolygonGeometry.computeDimPoint(points, offset, dimPercentages, dimOffset, radiusMax, sideCount);
+    }
+
+    /**
+     * 单个线程使用的临时对象
+     */
+    private static final class Scratch {
+        final Path path = new Path();
+        final AndroidPathSink sink = new AndroidPathSink();
+        final PathKey lookupKey = new PathKey();
+    }
+
+    /**
+     * 路径缓存的键
+     */
+    private static final class PathKey {
+        private int sideCount;
+        private float radius;
+        private float cornerRadius;
+
+        PathKey set(int sideCount, float radius, float cornerRadius) {
+            this.sideCount = sideCount;
+            this.radius = radius;
+            this.cornerRadius = cornerRadius;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PathKey)) {
+                return false;
+            }
+            PathKey other = (PathKey) o;
+            return sideCount == other.sideCount
+                    && Float.floatToIntBits(radius) == Float.floatToIntBits(other.radius)
+                    && Float.floatToIntBits(cornerRadius) == Float.floatToIntBits(other.cornerRadius);
+        }
 
-    private static double toRadians(final double degrees) {
-        return 2 * Math.PI * degrees / 360;
+        @Override
+        public int hashCode() {
+            int result = sideCount;
+            result = 31 * result + Float.floatToIntBits(radius);
+            result = 31 * result + Float.floatToIntBits(cornerRadius);
+            return result;
+        }
     }
 
 }
@@ -0,0 +1,127 @@
+package com.lyldding.library;
+
+/**
+ * 布局和属性确定后编译出的绘制参数：中心、裁剪区域、旋转、各层半径和圆角半径以及细节级别。
+ * <p>
+ * 只在尺寸、内边距或相关属性变化后重新编译，onDraw 直接使用，不再逐帧计算。
+ * 编译后不再修改，可以交给后台线程构建几何数据。
+ *
+ * @author lyldding
+ */
+final class PolygonDrawPlan {
+    /**
+     * 细节级别：绘制半径低于阈值时依次去掉圆角、内层、维度顶点圆和抗锯齿
+     */
+    static final int DETAIL_CORNER = 1;
+    static final int DETAIL_INNER_LAYERS = 1 << 1;
+    static final int DETAIL_DIM_CIRCLE = 1 << 2;
+    static final int DETAIL_ANTI_ALIAS = 1 << 3;
+    static final int DETAIL_FULL = DETAIL_CORNER | DETAIL_INNER_LAYERS | DETAIL_DIM_CIRCLE | DETAIL_ANTI_ALIAS;
+
+    final int paddingLeft;
+    final int paddingTop;
+    final int paddingRight;
+    final int paddingBottom;
+    final float centerX;
+    final float centerY;
+    /**
+     * 绘制用半径，扣除了最外层边宽
+     */
+    final int drawRadius;
+    final float clipLeft;
+    final float clipTop;
+    final float clipRight;
+    final float clipBottom;
+    final float rotation;
+    final int layers;
+    final int innerLayer;
+    /**
+     * 保留的细节，DETAIL_ 标志位的组合
+     */
+    final int detail;
+    /**
+     * 细节级别下的圆角半径
+     */
+    final float cornerRadius;
+    /**
+     * 第 i 层（从 1 开始）的半径和圆角半径存放在下标 i - 1
+     */
+    private final float[] layerRadii;
+    private final float[] layerCornerRadii;
+
+    /**
+     * @param width         View 宽度
+     * @param height        View 高度
+     * @param paddingLeft   左内边距
+     * @param paddingTop    上内边距
+     * @param paddingRight  右内边距
+     * @param paddingBottom 下内边距
+     * @param drawRadius    绘制半径
+     * @param rotation      旋转角度
+     * @param layers        层数
+     * @param innerLayer    指定内层
+     * @param cornerRadius  圆角半径
+     * @param detail        保留的细节
+     */
+    PolygonDrawPlan(int width, int height, int paddingLeft, int paddingTop, int paddingRight, int paddingBottom,
+                    int drawRadius, float rotation, int layers, int innerLayer, float cornerRadius, int detail) {
+        this.paddingLeft = paddingLeft;
+        this.paddingTop = paddingTop;
+        this.paddingRight = paddingRight;
+        this.paddingBottom = paddingBottom;
+        centerX = width / 2;
+        centerY = height / 2;
+        this.drawRadius = drawRadius;
+        clipLeft = centerX - drawRadius + paddingLeft;
+        clipTop = centerY - drawRadius + paddingTop;
+        clipRight = centerX + drawRadius - paddingRight;
+        clipBottom = centerY + drawRadius - paddingBottom;
+        this.rotation = rotation;
+        this.layers = layers;
+        this.innerLayer = innerLayer;
+        this.detail = detail;
+        this.cornerRadius = (detail & DETAIL_CORNER) != 0 ? cornerRadius : 0;
+        // 指定内层可以大于层数，一并预先计算
+        int count = Math.max(layers, innerLayer);
+        layerRadii = new float[count];
+        layerCornerRadii = new float[count];
+        for (int i = 1; i <= count; i++) {
+            layerRadii[i - 1] = drawRadius * i / layers;
+            layerCornerRadii[i - 1] = this.cornerRadius * i / layers;
+        }
+    }
+
+    /**
+     * @param layer 层，从 1 开始；0 表示没有指定内层
+     * @return 该层半径
+     */
+    float layerRadius(int layer) {
+        return layer == 0 ? 0 : layerRadii[layer - 1];
+    }
+
+    /**
+     * @param layer 层，从 1 开始；0 表示没有指定内层
+     * @return 该层圆角半径
+     */
+    float layerCornerRadius(int layer) {
+        return layer == 0 ? 0 : layerCornerRadii[layer - 1];
+    }
+
+    /**
+     * @param detail DETAIL_ 标志位
+     * @return true 保留该细节
+     */
+    boolean hasDetail(int detail) {
+        return (this.detail & detail) != 0;
+    }
+
+    /**
+     * @return true 几何数据与另一个计划相同，不需要重新获取顶点和路径
+     */
+    boolean isSameGeometry(PolygonDrawPlan other) {
+        return drawRadius == other.drawRadius
+                && layers == other.layers
+                && innerLayer == other.innerLayer
+                && cornerRadius == other.cornerRadius;
+    }
+}
@@ -0,0 +1,74 @@
+package com.lyldding.library;
+
+import android.graphics.Path;
+import android.support.annotation.Nullable;
+
+/**
+ * 一帧所需的多边形几何数据：顶点连线端点、各层路径以及可选的维度坐标。
+ * <p>
+ * 构建完成后不再修改，可以在后台线程构建后交给 UI 线程绘制。
+ *
+ * @author lyldding
+ */
+final class PolygonFrame {
+    /**
+     * 构建序号，越大越新
+     */
+    final int generation;
+    final int sides;
+    final int layers;
+    final int innerLayer;
+    /**
+     * 指定内层顶点坐标，x、y 交错存放
+     */
+    final float[] minPoints;
+    /**
+     * 最外层顶点坐标，x、y 交错存放
+     */
+    final float[] maxPoints;
+    /**
+     * 各层多边形路径，来自 {@link PolygonDrawHelper} 的缓存
+     */
+    final Path[] layerPaths;
+    /**
+     * 维度坐标，x、y 交错存放；没有维度数据时为 null
+     */
+    @Nullable
+    final float[] dimPoints;
+
+    private PolygonFrame(int generation, int sides, PolygonDrawPlan plan, @Nullable float[] dimPercentages) {
+        this.generation = generation;
+        this.sides = sides;
+        this.layers = plan.layers;
+        this.innerLayer = plan.innerLayer;
+
+        PolygonDrawHelper helper = PolygonDrawHelper.getInstance();
+        minPoints = new float[sides * 2];
+        maxPoints = new float[sides * 2];
+        helper.computeVertexPoint(minPoints, 0, plan.layerRadius(innerLayer), sides, plan.layerCornerRadius(innerLayer));
+        helper.computeVertexPoint(maxPoints, 0, plan.drawRadius, sides, plan.cornerRadius);
+        layerPaths = new Path[layers];
+        for (int i = 1; i <= layers; i++) {
+            layerPaths[i - 1] = helper.obtainPolygonPath(sides, plan.layerRadius(i), plan.layerCornerRadius(i));
+        }
+        if (dimPercentages != null) {
+            dimPoints = new float[sides * 2];
+            helper.computeDimPoint(dimPoints, 0, dimPercentages, 0, plan.drawRadius, sides);
+        } else {
+            dimPoints = null;
+        }
+    }
+
+    /**
+     * 构建一帧，可以在任意线程调用
+     *
+     * @param generation     构建序号
+     * @param sides          边数
+     * @param plan           绘制参数，提供层数、各层半径和圆角半径
+     * @param dimPercentages 维度值，null 不计算维度坐标；调用后不能再修改
+     * @return 新的一帧
+     */
+    static PolygonFrame build(int generation, int sides, PolygonDrawPlan plan, @Nullable float[] dimPercentages) {
+        return new PolygonFrame(generation, sides, plan, dimPercentages);
+    }
+}
@@ -0,0 +1,58 @@
+package com.lyldding.library;
+
+/**
+ * {@link SimplePolygonView} 每帧的绘制指标，通过 {@link SimplePolygonView#setPolygonMetrics(PolygonMetrics)} 设置。
+ * <p>
+ * 在 UI 线程回调，实现需要尽快返回。未设置时 onDraw 只多一次判空，不读取时钟。
+ *
+ * @author lyldding
+ */
+public interface PolygonMetrics {
+    /**
+     * 推进动画并计算顶点、维度坐标，异步模式下包括取用后台构建的结果
+     */
+    int PHASE_COMPUTE = 0;
+    /**
+     * 更新并绘制网格缓存位图
+     */
+    int PHASE_GRID_CACHE = 1;
+    /**
+     * 顶点连线
+     */
+    int PHASE_LINE = 2;
+    /**
+     * 各层多边形
+     */
+    int PHASE_POLYGON = 3;
+    /**
+     * 多组维度区域
+     */
+    int PHASE_DIM_SERIES = 4;
+    /**
+     * 维度区域
+     */
+    int PHASE_DIM_AREA = 5;
+    /**
+     * 维度顶点圆
+     */
+    int PHASE_DIM_CIRCLE = 6;
+    int PHASE_COUNT = 7;
+
+    /**
+     * 一个阶段结束，没有执行的阶段不回调
+     *
+     * @param phase 阶段，PHASE_ 常量
+     * @param nanos 耗时，单位纳秒
+     */
+    void onPhase(int phase, long nanos);
+
+    /**
+     * 一帧结束
+     *
+     * @param nanos         onDraw 总耗时，单位纳秒
+     * @param pathRebuilds  本帧内 {@link PolygonDrawHelper} 重新构建的路径数，包括其他线程
+     * @param pathCacheHits 本帧内路径缓存命中数，包括其他线程
+     * @param allocations   本帧内 UI 线程分配的对象数，只有调用过 {@link android.os.Debug#startAllocCounting()} 时有效，否则为 0
+     */
+    void onFrame(long nanos, long pathRebuilds, long pathCacheHits, long allocations);
+}
@@ -0,0 +1,219 @@
+package com.lyldding.library;
+
+import android.graphics.Paint;
+import android.support.annotation.ColorInt;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static android.graphics.Paint.ANTI_ALIAS_FLAG;
+
+/**
+ * 一组预先配置好的画笔，按样式属性共享给多个 {@link SimplePolygonView}。
+ * <p>
+ * 画笔创建后不再修改，绘制过程中也不会切换颜色或宽度；样式变化时通过 {@link #obtain} 换成另一个实例。
+ *
+ * @author lyldding
+ */
+final class PolygonStyle {
+    /**
+     * 最多缓存的样式数
+     */
+    private static final int MAX_CACHED_STYLES = 32;
+
+    private static final LinkedHashMap<Key, PolygonStyle> STYLES = new LinkedHashMap<Key, PolygonStyle>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, PolygonStyle> eldest) {
+            return size() > MAX_CACHED_STYLES;
+        }
+    };
+    private static final Key LOOKUP_KEY = new Key();
+
+    /**
+     * 内层多边形边
+     */
+    final Paint layerStrokePaint;
+    /**
+     * 最外层多边形边
+     */
+    final Paint outerStrokePaint;
+    /**
+     * 指定内层填充
+     */
+    final Paint innerFillPaint;
+    /**
+     * 顶点连线
+     */
+    final Paint vertexLinePaint;
+    /**
+     * 维度区域填充
+     */
+    final Paint dimFillPaint;
+    /**
+     * 维度区域边
+     */
+    final Paint dimStrokePaint;
+    /**
+     * 维度顶点圆背景
+     */
+    final Paint dimCircleBackgroundPaint;
+    /**
+     * 维度顶点圆
+     */
+    final Paint dimCirclePaint;
+    /**
+     * 批量绘制维度顶点圆背景，圆头点的直径等于圆的直径
+     */
+    final Paint dimCircleBackgroundPointPaint;
+    /**
+     * 批量绘制维度顶点圆
+     */
+    final Paint dimCirclePointPaint;
+
+    private PolygonStyle(Key key) {
+        layerStrokePaint = newPaint(key.strokeColor, Paint.Style.STROKE, 1f);
+        outerStrokePaint = newPaint(key.strokeColor, Paint.Style.STROKE, key.outerStrokeWidth);
+        innerFillPaint = newPaint(key.innerFillColor, Paint.Style.FILL, 0f);
+        vertexLinePaint = newPaint(key.vertexLineColor, Paint.Style.STROKE, 1f);
+        dimFillPaint = newPaint(key.dimFillColor, Paint.Style.FILL, 0f);
+        dimStrokePaint = newPaint(key.dimStrokeColor, Paint.Style.STROKE, key.outerStrokeWidth);
+        dimCircleBackgroundPaint = newPaint(key.dimCircleColorBackground, Paint.Style.FILL, 0f);
+        dimCirclePaint = newPaint(key.dimCircleColor, Paint.Style.FILL, 0f);
+        dimCircleBackgroundPointPaint = newPointPaint(key.dimCircleColorBackground, key.dimCircleRadiusBackground);
+        dimCirclePointPaint = newPointPaint(key.dimCircleColor, key.dimCircleRadius);
+        if (!key.antiAlias) {
+            Paint[] paints = {layerStrokePaint, outerStrokePaint, innerFillPaint, vertexLinePaint, dimFillPaint,
+                    dimStrokePaint, dimCircleBackgroundPaint, dimCirclePaint, dimCircleBackgroundPointPaint, dimCirclePointPaint};
+            for (Paint paint : paints) {
+                paint.setAntiAlias(false);
+            }
+        }
+    }
+
+    private static Paint newPointPaint(@ColorInt int color, float radius) {
+        Paint paint = newPaint(color, Paint.Style.STROKE, radius * 2);
+        paint.setStrokeCap(Paint.Cap.ROUND);
+        return paint;
+    }
+
+    private static Paint newPaint(@ColorInt int color, Paint.Style style, float strokeWidth) {
+        Paint paint = new Paint(ANTI_ALIAS_FLAG);
+        paint.setColor(color);
+        paint.setStyle(style);
+        paint.setStrokeWidth(strokeWidth);
+        return paint;
+    }
+
+    /**
+     * 获取样式，属性相同时返回同一个实例
+     *
+     * @param strokeColor               多边形边颜色
+     * @param innerFillColor            多边形内层填充色
+     * @param vertexLineColor           各层顶点连线颜色
+     * @param dimFillColor              维度区域填充色
+     * @param dimStrokeColor            维度区域边颜色
+     * @param dimCircleColorBackground  维度顶点圆背景填充色
+     * @param dimCircleColor            维度顶点圆填充色
+     * @param outerStrokeWidth          最外层边宽度，单位像素
+     * @param dimCircleRadiusBackground 维度顶点圆背景半径，单位像素
+     * @param dimCircleRadius           维度顶点圆半径，单位像素
+     * @param antiAlias                 false 关闭抗锯齿，用于很小的图表
+     * @return 样式
+     */
+    static PolygonStyle obtain(@ColorInt int strokeColor,
+                               @ColorInt int innerFillColor,
+                               @ColorInt int vertexLineColor,
+                               @ColorInt int dimFillColor,
+                               @ColorInt int dimStrokeColor,
+                               @ColorInt int dimCircleColorBackground,
+                               @ColorInt int dimCircleColor,
+                               float outerStrokeWidth,
+                               float dimCircleRadiusBackground,
+                               float dimCircleRadius,
+                               boolean antiAlias) {
+        synchronized (STYLES) {
+            LOOKUP_KEY.set(strokeColor, innerFillColor, vertexLineColor, dimFillColor, dimStrokeColor,
+                    dimCircleColorBackground, dimCircleColor, outerStrokeWidth, dimCircleRadiusBackground, dimCircleRadius, antiAlias);
+            PolygonStyle style = STYLES.get(LOOKUP_KEY);
+            if (style == null) {
+                Key key = new Key().set(strokeColor, innerFillColor, vertexLineColor, dimFillColor, dimStrokeColor,
+                        dimCircleColorBackground, dimCircleColor, outerStrokeWidth, dimCircleRadiusBackground, dimCircleRadius, antiAlias);
+                style = new PolygonStyle(key);
+                STYLES.put(key, style);
+            }
+            return style;
+        }
+    }
+
+    /**
+     * 样式缓存的键
+     */
+    private static final class Key {
+        private int strokeColor;
+        private int innerFillColor;
+        private int vertexLineColor;
+        private int dimFillColor;
+        private int dimStrokeColor;
+        private int dimCircleColorBackground;
+        private int dimCircleColor;
+        private float outerStrokeWidth;
+        private float dimCircleRadiusBackground;
+        private float dimCircleRadius;
+        private boolean antiAlias;
+
+        Key set(int strokeColor, int innerFillColor, int vertexLineColor, int dimFillColor, int dimStrokeColor,
+                int dimCircleColorBackground, int dimCircleColor, float outerStrokeWidth,
+                float dimCircleRadiusBackground, float dimCircleRadius, boolean antiAlias) {
+            this.strokeColor = strokeColor;
+            this.innerFillColor = innerFillColor;
+            this.vertexLineColor = vertexLineColor;
+            this.dimFillColor = dimFillColor;
+            this.dimStrokeColor = dimStrokeColor;
+            this.dimCircleColorBackground = dimCircleColorBackground;
+            this.dimCircleColor = dimCircleColor;
+            this.outerStrokeWidth = outerStrokeWidth;
+            this.dimCircleRadiusBackground = dimCircleRadiusBackground;
+            this.dimCircleRadius = dimCircleRadius;
+            this.antiAlias = antiAlias;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return strokeColor == other.strokeColor
+                    && innerFillColor == other.innerFillColor
+                    && vertexLineColor == other.vertexLineColor
+                    && dimFillColor == other.dimFillColor
+                    && dimStrokeColor == other.dimStrokeColor
+                    && dimCircleColorBackground == other.dimCircleColorBackground
+                    && dimCircleColor == other.dimCircleColor
+                    && Float.floatToIntBits(outerStrokeWidth) == Float.floatToIntBits(other.outerStrokeWidth)
+                    && Float.floatToIntBits(dimCircleRadiusBackground) == Float.floatToIntBits(other.dimCircleRadiusBackground)
+                    && Float.floatToIntBits(dimCircleRadius) == Float.floatToIntBits(other.dimCircleRadius)
+                    && antiAlias == other.antiAlias;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = strokeColor;
+            result = 31 * result + innerFillColor;
+            result = 31 * result + vertexLineColor;
+            result = 31 * result + dimFillColor;
+            result = 31 * result + dimStrokeColor;
+            result = 31 * result + dimCircleColorBackground;
+            result = 31 * result + dimCircleColor;
+            result = 31 * result + Float.floatToIntBits(outerStrokeWidth);
+            result = 31 * result + Float.floatToIntBits(dimCircleRadiusBackground);
+            result = 31 * result + Float.floatToIntBits(dimCircleRadius);
+            result = 31 * result + (antiAlias ? 1 : 0);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.lyldding.library;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Path;
+import android.support.annotation.Nullable;
+import android.support.v4.view.ViewCompat;
+import android.util.AttributeSet;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewParent;
+import android.widget.OverScroller;
+
+import com.lyldding.geometry.PolygonGeometry;
+import com.lyldding.geometry.PolygonLayout;
+import com.lyldding.geometry.PolygonSpec;
+
+/**
+ * 在一个 View 中按网格排列并绘制大量雷达图，不为每个图表创建 {@link SimplePolygonView}。
+ * <p>
+ * 所有图表使用同一个 {@link PolygonSpec}，网格（各层多边形和顶点连线）只绘制一次到模板位图，
+ * 每个图表绘制模板后再画自己的维度区域。维度数据按图表依次存放在一个数组中。
+ * 内容超出高度时可以纵向滑动，每帧只绘制可见行，不可见的图表没有开销。
+ *
+ * @author lyldding
+ */
+public class RadarGridView extends View {
+    private static final String TAG = "RadarGridView";
+
+    private PolygonSpec spec = new PolygonSpec.Builder().showDim(true).build();
+    private PolygonLayout layout;
+    private PolygonStyle style;
+    /**
+     * 顶点连线端点，每条连线按起点 x、y，终点 x、y 存放
+     */
+    private float[] spokeLines;
+    /**
+     * 网格模板，尺寸为单个图表的宽高；属性或密度变化时重新绘制
+     */
+    private Bitmap gridTemplate;
+    private boolean templateDirty = true;
+
+    /**
+     * 维度数据，第 i 个图表从 i * sides 开始
+     */
+    private float[] data = new float[0];
+    private int chartCount;
+    private float[] dimPoints;
+    private final Path dimPath = new Path();
+
+    /**
+     * 图表之间的间距，单位像素
+     */
+    private int spacing;
+    private int columns = 1;
+
+    private final OverScroller scroller;
+    private final GestureDetector gestureDetector;
+
+    public RadarGridView(Context context) {
+        this(context, null);
+    }
+
+    public RadarGridView(Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public RadarGridView(Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        spacing = Utils.dp2px(context, 8);
+        scroller = new OverScroller(context);
+        gestureDetector = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent e) {
+                scroller.forceFinished(true);
+                return true;
+            }
+
+            @Override
+            public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
+                ViewParent parent = getParent();
+                if (parent != null) {
+                    parent.requestDisallowInterceptTouchEvent(true);
+                }
+                scrollTo(0, getScrollY() + (int) distanceY);
+                return true;
+            }
+
+            @Override
+            public boolean onFling(MotionEvent e1, MotionEvent e2, float velocityX, float velocityY) {
+                scroller.fling(0, getScrollY(), 0, (int) -velocityY, 0, 0, 0, getMaxScrollY());
+                ViewCompat.postInvalidateOnAnimation(RadarGridView.this);
+                return true;
+            }
+        });
+        applySpec(spec);
+    }
+
+    /**
+     * 设置全部图表共用的属性。边数变化时已有数据不再适用，会被清空。
+     *
+     * @param spec 属性
+     */
+    public void setSpec(PolygonSpec spec) {
+        if (spec.equals(this.spec)) {
+            return;
+        }
+        if (spec.getSides() != this.spec.getSides()) {
+            chartCount = 0;
+        }
+        applySpec(spec);
+        requestLayout();
+        invalidate();
+    }
+
+    private void applySpec(PolygonSpec spec) {
+        this.spec = spec;
+        layout = new PolygonLayout(spec, getResources().getDisplayMetrics().density);
+        style = PolygonStyle.obtain(spec.getStrokeColor(), spec.getInnerFillColor(), spec.getVertexLineColor(),
+                spec.getDimFillColor(), spec.getDimStrokeColor(), spec.getDimCircleColorBackground(),
+                spec.getDimCircleColor(), layout.getOuterStrokeWidth(),
+                layout.getDimCircleRadiusBackground(), layout.getDimCircleRadius(), true);
+        final int sides = spec.getSides();
+        final float[] minPoints = layout.getMinPoints();
+        final float[] maxPoints = layout.getMaxPoints();
+        spokeLines = new float[sides * 4];
+        for (int i = 0; i < sides; i++) {
+            spokeLines[i * 4] = minPoints[i * 2];
+            spokeLines[i * 4 + 1] = minPoints[i * 2 + 1];
+            spokeLines[i * 4 + 2] = maxPoints[i * 2];
+            spokeLines[i * 4 + 3] = maxPoints[i * 2 + 1];
+        }
+        dimPoints = new float[sides * 2];
+        templateDirty = true;
+    }
+
+    public PolygonSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * 设置全部图表的维度数据
+     *
+     * @param percentages 按图表依次存放的维度值 0.0 - 1.0，长度至少为 count * sides，数据会被拷贝
+     * @param count       图表数
+     */
+    public void setData(float[] percentages, int count) {
+        final int sides = spec.getSides();
+        if (count < 0 || percentages.length < count * sides) {
+            throw new IllegalArgumentException(TAG + " : percentages.length < count * sides");
+        }
+        for (int index = 0; index < count * sides; index++) {
+            if (percentages[index] < 0.0 || percentages[index] > 1.0) {
+                throw new IllegalArgumentException(TAG + " : percentage = " + percentages[index]);
+            }
+        }
+        if (data.length < count * sides) {
+            data = new float[count * sides];
+        }
+        System.arraycopy(percentages, 0, data, 0, count * sides);
+        boolean isCountChanged = chartCount != count;
+        chartCount = count;
+        if (isCountChanged) {
+            requestLayout();
+        }
+        scrollTo(0, getScrollY());
+        invalidate();
+    }
+
+    public int getChartCount() {
+        return chartCount;
+    }
+
+    /**
+     * @param spacing 图表之间的间距，单位dp
+     */
+    public void setChartSpacing(int spacing) {
+        int value = Utils.dp2px(getContext(), spacing);
+        if (this.spacing != value) {
+            this.spacing = value;
+            requestLayout();
+            invalidate();
+        }
+    }
+
+    /**
+     * @param x View 坐标系中的 x
+     * @param y View 坐标系中的 y
+     * @return 该位置的图表下标，不在任何图表上时为 -1
+     */
+    public int getChartIndexAt(float x, float y) {
+        final int size = layout.getSize();
+        final int pitch = size + spacing;
+        float contentX = x - getPaddingLeft() + getScrollX();
+        float contentY = y - getPaddingTop() + getScrollY();
+        if (contentX < 0 || contentY < 0) {
+            return -1;
+        }
+        int column = (int) (contentX / pitch);
+        int row = (int) (contentY / pitch);
+        if (column >= columns || contentX - column * pitch >= size || contentY - row * pitch >= size) {
+            return -1;
+        }
+        int index = row * columns + column;
+        return index < chartCount ? index : -1;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        final int size = layout.getSize();
+        int width = MeasureSpec.getMode(widthMeasureSpec) == MeasureSpec.UNSPECIFIED
+                ? getPaddingLeft() + size + getPaddingRight()
+                : MeasureSpec.getSize(widthMeasureSpec);
+        columns = computeColumns(width);
+        int contentHeight = computeContentHeight();
+        int height;
+        switch (MeasureSpec.getMode(heightMeasureSpec)) {
+            case MeasureSpec.EXACTLY:
+                height = MeasureSpec.getSize(heightMeasureSpec);
+                break;
+            case MeasureSpec.AT_MOST:
+                height = Math.min(contentHeight, MeasureSpec.getSize(heightMeasureSpec));
+                break;
+            default:
+                height = contentHeight;
+                break;
+        }
+        setMeasuredDimension(width, height);
+    }
+
+    private int computeColumns(int width) {
+        final int pitch = layout.getSize() + spacing;
+        int available = width - getPaddingLeft() - getPaddingRight() + spacing;
+        return Math.max(1, available / pitch);
+    }
+
+    private int computeRows() {
+        return (chartCount + columns - 1) / columns;
+    }
+
+    private int computeContentHeight() {
+        int rows = computeRows();
+        int rowsHeight = rows == 0 ? 0 : rows * (layout.getSize() + spacing) - spacing;
+        return getPaddingTop() + rowsHeight + getPaddingBottom();
+    }
+
+    private int getMaxScrollY() {
+        return Math.max(0, computeContentHeight() - getHeight());
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        columns = computeColumns(w);
+        scrollTo(0, getScrollY());
+    }
+
+    @Override
+    public void scrollTo(int x, int y) {
+        if (layout == null) {
+            // View 的构造函数会应用 xml 中的初始滚动位置，此时还没有属性
+            super.scrollTo(x, y);
+            return;
+        }
+        super.scrollTo(0, Math.max(0, Math.min(y, getMaxScrollY())));
+    }
+
+    @Override
+    public void computeScroll() {
+        if (scroller.computeScrollOffset()) {
+            scrollTo(0, scroller.getCurrY());
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return gestureDetector.onTouchEvent(event) || super.onTouchEvent(event);
+    }
+
+    @Override
+    protected int computeVerticalScrollRange() {
+        return computeContentHeight();
+    }
+
+    @Override
+    protected int computeVerticalScrollOffset() {
+        return getScrollY();
+    }
+
+    @Override
+    protected int computeVerticalScrollExtent() {
+        return getHeight();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        if (gridTemplate != null) {
+            gridTemplate.recycle();
+            gridTemplate = null;
+        }
+        templateDirty = true;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (chartCount == 0) {
+            return;
+        }
+        updateGridTemplate();
+        final int size = layout.getSize();
+        final int pitch = size + spacing;
+        final boolean isShowDim = spec.isShowDim();
+        // 只绘制与可见区域相交的行，canvas 已按 scrollY 平移
+        final int visibleTop = getScrollY() - getPaddingTop();
+        final int firstRow = Math.max(0, visibleTop / pitch);
+        final int lastRow = Math.min(computeRows() - 1, (visibleTop + getHeight() - 1) / pitch);
+        for (int row = firstRow; row <= lastRow; row++) {
+            final float top = getPaddingTop() + row * pitch;
+            for (int column = 0; column < columns; column++) {
+                final int index = row * columns + column;
+                if (index >= chartCount) {
+                    return;
+                }
+                final float left = getPaddingLeft() + column * pitch;
+                canvas.drawBitmap(gridTemplate, left, top, null);
+                if (isShowDim) {
+                    drawDim(canvas, index, left, top);
+                }
+            }
+        }
+    }
+
+    /**
+     * 需要时重新绘制网格模板
+     */
+    private void updateGridTemplate() {
+        final int size = Math.max(layout.getSize(), 1);
+        if (gridTemplate == null || gridTemplate.getWidth() != size) {
+            if (gridTemplate != null) {
+                gridTemplate.recycle();
+            }
+            gridTemplate = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+            templateDirty = true;
+        }
+        if (!templateDirty) {
+            return;
+        }
+        gridTemplate.eraseColor(0);
+        Canvas canvas = new Canvas(gridTemplate);
+        canvas.translate(layout.getCenter(), layout.getCenter());
+        canvas.rotate(spec.getRotation());
+        final int sides = spec.getSides();
+        final int layers = spec.getLayers();
+        canvas.drawLines(spokeLines, 0, sides * 4, style.vertexLinePaint);
+        final int drawRadius = layout.getDrawRadius();
+        final float cornerRadius = layout.getCornerRadius();
+        for (int i = 1; i <= layers; i++) {
+            float radius = drawRadius * i / layers;
+            Path path = PolygonDrawHelper.getInstance().obtainPolygonPath(sides, radius, cornerRadius * i / layers);
+            if (i == spec.getInnerLayer()) {
+                canvas.drawPath(path, style.innerFillPaint);
+            }
+            canvas.drawPath(path, i != layers ? style.layerStrokePaint : style.outerStrokePaint);
+        }
+        templateDirty = false;
+    }
+
+    /**
+     * 绘制一个图表的维度区域和维度顶点圆，裁剪到图表所在的格子，顶点圆不会画到间距或相邻图表上
+     *
+     * @param left 格子左边
+     * @param top  格子上边
+     */
+    private void drawDim(Canvas canvas, int index, float left, float top) {
+        final int sides = spec.getSides();
+        PolygonGeometry.computeDimPoint(dimPoints, 0, data, index * sides, layout.getDrawRadius(), sides);
+        dimPath.reset();
+        dimPath.moveTo(dimPoints[0], dimPoints[1]);
+        for (int i = 1; i < sides; i++) {
+            dimPath.lineTo(dimPoints[i * 2], dimPoints[i * 2 + 1]);
+        }
+        dimPath.close();
+
+        int saveCount = canvas.save();
+        canvas.translate(left, top);
+        canvas.clipRect(0, 0, layout.getSize(), layout.getSize());
+        canvas.translate(layout.getCenter(), layout.getCenter());
+        canvas.rotate(spec.getRotation());
+        canvas.drawPath(dimPath, style.dimFillPaint);
+        canvas.drawPath(dimPath, style.dimStrokePaint);
+        if (layout.getDimCircleRadiusBackground() > 0) {
+            canvas.drawPoints(dimPoints, 0, sides * 2, style.dimCircleBackgroundPointPaint);
+        }
+        if (layout.getDimCircleRadius() > 0) {
+            canvas.drawPoints(dimPoints, 0, sides * 2, style.dimCirclePointPaint);
+        }
+        canvas.restoreToCount(saveCount);
+    }
+}
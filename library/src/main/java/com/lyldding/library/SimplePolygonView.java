@@ -16,22 +16,41 @@
  */
 package com.lyldding.library;
 
+import android.animation.TimeInterpolator;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.os.AsyncTask;
+import android.os.Debug;
 import android.support.annotation.ColorInt;
 import android.support.annotation.IntRange;
 import android.support.annotation.Nullable;
+import android.support.annotation.VisibleForTesting;
+import android.support.v4.view.ViewCompat;
 import android.util.AttributeSet;
 import android.view.View;
+import android.view.animation.AnimationUtils;
 
-import java.util.ArrayList;
+import com.lyldding.geometry.PolygonGeometry;
+import com.lyldding.geometry.PolygonHitResult;
+import com.lyldding.geometry.PolygonSpec;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static android.graphics.Paint.ANTI_ALIAS_FLAG;
+import static com.lyldding.library.PolygonDrawPlan.DETAIL_ANTI_ALIAS;
+import static com.lyldding.library.PolygonDrawPlan.DETAIL_CORNER;
+import static com.lyldding.library.PolygonDrawPlan.DETAIL_DIM_CIRCLE;
+import static com.lyldding.library.PolygonDrawPlan.DETAIL_FULL;
+import static com.lyldding.library.PolygonDrawPlan.DETAIL_INNER_LAYERS;
 
 /**
  * @author lyldding
@@ -68,34 +87,32 @@ public class SimplePolygonView extends View {
     /**
      * 正多边形各边颜色
      */
-    private Paint polygonStrokePaint;
     private int polygonStrokeColor;
     /**
      * 最内层多边形填充颜色
      */
-    private Paint polygonInnerFillPaint;
     private int polygonInnerFillColor;
     /**
      * 各层顶点之间连线
      */
-    private Paint vertexLinePaint;
     private int vertexLinePaintColor;
     /**
      * 维度区域填充颜色
      */
-    private Paint dimFillPaint;
     private int dimFillColor;
     /**
      * 维度边线颜色
      */
-    private Paint dimStrokePaint;
     private int dimStrokeColor;
     /**
      * 维度顶点圆颜色填充
      */
-    private Paint dimCircleFillPaint;
     private int dimCircleColorBackground;
     private int dimCircleColor;
+    /**
+     * 与其他相同样式的 View 共享的画笔
+     */
+    private PolygonStyle style;
 
     private Path tempPath;
 
@@ -104,21 +121,140 @@ public class SimplePolygonView extends View {
     private float rotation;
     private float scale;
     private int radiusMaxScale;
+    /**
+     * 按当前尺寸和属性编译的绘制参数
+     */
+    private PolygonDrawPlan plan;
+    /**
+     * true 尺寸、内边距或相关属性发生变化，绘制前需要重新编译绘制参数
+     */
+    private boolean planDirty = true;
     private float dimCircleRadiusBackground;
     private float dimCircleRadius;
 
-    private List<Float> maxPointListX;
-    private List<Float> maxPointListY;
+    /**
+     * 顶点坐标，x、y 交错存放
+     */
+    private float[] maxPoints;
+    private float[] minPoints;
+    private float[] dimPoints;
+    /**
+     * 顶点连线端点，每条连线按起点 x、y，终点 x、y 存放，供 drawLines 一次绘制
+     */
+    private float[] spokeLines = new float[0];
+    /**
+     * true 顶点连线和维度顶点圆分别合并为一次 drawLines、drawPoints 调用
+     */
+    private boolean isBatchDrawEnabled = true;
+    /**
+     * true 按绘制半径自动降低细节
+     */
+    private boolean isLevelOfDetailEnabled;
+    /**
+     * 各细节的半径阈值，单位像素，绘制半径小于阈值时去掉对应细节
+     */
+    private float cornerDetailRadius;
+    private float innerLayersDetailRadius;
+    private float dimCircleDetailRadius;
+    private float antiAliasDetailRadius;
+    /**
+     * 绘制指标，null 不统计
+     */
+    @Nullable
+    private PolygonMetrics metrics;
+
+    private float[] mDimPercentages;
+
+    /**
+     * 各层多边形路径，来自 {@link PolygonDrawHelper} 的缓存
+     */
+    private Path[] layerPaths;
+    /**
+     * true 多边形几何参数发生变化，需要重新获取顶点和路径
+     */
+    private boolean geometryDirty = true;
+    /**
+     * true 维度值或半径发生变化，需要重新计算维度坐标
+     */
+    private boolean dimDirty = true;
+
+    /**
+     * true 将各层多边形和顶点连线缓存为位图，之后每帧只绘制维度区域
+     */
+    private boolean isGridCacheEnabled;
+    private Bitmap gridBitmap;
+    private Canvas gridCanvas;
+    /**
+     * true 网格缓存需要重新绘制
+     */
+    private boolean gridDirty = true;
 
-    private List<Float> minPointListX;
-    private List<Float> minPointListY;
+    /**
+     * true 几何数据在后台线程构建，绘制时使用最近一次构建完成的数据
+     */
+    private boolean isAsyncGeometryEnabled;
+    private Executor geometryExecutor = AsyncTask.THREAD_POOL_EXECUTOR;
+    /**
+     * 后台构建完成、等待 UI 线程取用的一帧
+     */
+    private final AtomicReference<PolygonFrame> pendingFrame = new AtomicReference<>();
+    /**
+     * 最近一次提交构建的序号，只在 UI 线程修改
+     */
+    private int requestedGeneration;
+    /**
+     * 当前绘制数据对应的构建序号
+     */
+    private int drawnGeneration;
+    /**
+     * 当前绘制数据对应的边数、层数和指定内层，异步构建时可能落后于最新属性
+     */
+    private int drawnSides;
+    private int drawnLayers;
+    private int drawnInnerLayer;
+    /**
+     * dimPoints 对应的边数，与 drawnSides 不同时不绘制维度
+     */
+    private int dimPointsSides;
+
+    /**
+     * 维度动画起止值，mDimPercentages 保存当前帧的值
+     */
+    private float[] animFromPercentages = new float[0];
+    private float[] animToPercentages = new float[0];
+    private boolean isDimAnimating;
+    /**
+     * 屏幕上维度区域的包围盒，以多边形中心为原点，只在维度数据变化时局部重绘
+     */
+    private final float[] drawnDimBounds = new float[4];
+    private final float[] nextDimBounds = new float[4];
+    /**
+     * 计算 drawnDimBounds 时的绘制参数和扩展距离，与当前不一致时包围盒失效
+     */
+    @Nullable
+    private PolygonDrawPlan dimBoundsPlan;
+    private float dimBoundsOutset;
+    private long animStartTime;
+    private long animDuration;
+    private TimeInterpolator animInterpolator;
 
-    private List<Float> dimPointListX;
-    private List<Float> dimPointListY;
+    /**
+     * 多组维度数据，第 n 组的值从 n * sides 开始存放
+     */
+    private float[] seriesPercentages = new float[0];
+    /**
+     * 多组维度坐标，第 n 组的坐标从 n * sides * 2 开始按 x、y 交错存放
+     */
+    private float[] seriesPoints = new float[0];
+    private int seriesCount;
+    private Paint[] seriesFillPaints = new Paint[0];
+    private Paint[] seriesStrokePaints = new Paint[0];
+    private boolean seriesDirty;
 
-    private List<Float> mDimPercentages;
-    private float centerX;
-    private float centerY;
+    /**
+     * 最近一次 bind 的属性，单项 setter 修改后失效
+     */
+    private PolygonSpec currentSpec;
 
     private Context context;
 
@@ -166,44 +302,26 @@ public class SimplePolygonView extends View {
         dimStrokeColor = array.getColor(R.styleable.SimplePolygonView_polygon_dimStrokeColor, Color.YELLOW);
         dimCircleColorBackground = array.getColor(R.styleable.SimplePolygonView_polygon_dimCircleColorBackground, Color.WHITE);
         dimCircleColor = array.getColor(R.styleable.SimplePolygonView_polygon_dimCircleColor, Color.RED);
+        isGridCacheEnabled = array.getBoolean(R.styleable.SimplePolygonView_polygon_gridCacheEnabled, false);
+        isLevelOfDetailEnabled = array.getBoolean(R.styleable.SimplePolygonView_polygon_levelOfDetailEnabled, false);
+        cornerDetailRadius = Utils.dp2px(context, 48);
+        innerLayersDetailRadius = Utils.dp2px(context, 32);
+        dimCircleDetailRadius = Utils.dp2px(context, 24);
+        antiAliasDetailRadius = Utils.dp2px(context, 16);
 
         array.recycle();
         init();
     }
 
     private void init() {
-        mDimPercentages = new ArrayList<>();
-        maxPointListX = new ArrayList<>();
-        maxPointListY = new ArrayList<>();
-        minPointListX = new ArrayList<>();
-        minPointListY = new ArrayList<>();
-        dimPointListX = new ArrayList<>();
-        dimPointListY = new ArrayList<>();
-
-        polygonStrokePaint = new Paint(ANTI_ALIAS_FLAG);
-        polygonStrokePaint.setColor(polygonStrokeColor);
-        polygonStrokePaint.setStyle(Paint.Style.STROKE);
-
-        polygonInnerFillPaint = new Paint(ANTI_ALIAS_FLAG);
-        polygonInnerFillPaint.setColor(polygonInnerFillColor);
-        polygonInnerFillPaint.setStyle(Paint.Style.FILL);
-
-        vertexLinePaint = new Paint(ANTI_ALIAS_FLAG);
-        vertexLinePaint.setColor(vertexLinePaintColor);
-        vertexLinePaint.setStyle(Paint.Style.STROKE);
-        vertexLinePaint.setStrokeWidth(1);
-
-        dimFillPaint = new Paint(ANTI_ALIAS_FLAG);
-        dimFillPaint.setColor(dimFillColor);
-        dimFillPaint.setStyle(Paint.Style.FILL);
-
-        dimStrokePaint = new Paint(ANTI_ALIAS_FLAG);
-        dimStrokePaint.setColor(dimStrokeColor);
-        dimStrokePaint.setStyle(Paint.Style.STROKE);
-        dimStrokePaint.setStrokeWidth(outerStrokeWidth);
-
-        dimCircleFillPaint = new Paint(ANTI_ALIAS_FLAG);
-        dimCircleFillPaint.setStyle(Paint.Style.FILL);
+        mDimPercentages = new float[0];
+        maxPoints = new float[sides * 2];
+        minPoints = new float[sides * 2];
+        dimPoints = new float[sides * 2];
+        layerPaths = new Path[layers];
+        plan = new PolygonDrawPlan(0, 0, 0, 0, 0, 0, 0, rotation, layers, innerLayer, cornerRadius, DETAIL_FULL);
+
+        updateStyle();
 
         tempPath = new Path();
     }
@@ -211,7 +329,11 @@ public class SimplePolygonView extends View {
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         super.onMeasure(widthMeasureSpec, heightMeasureSpec);
-        radiusMaxScale = (int) (scale * (radiusMax));
+        int radius = (int) (scale * (radiusMax));
+        if (radius != radiusMaxScale) {
+            radiusMaxScale = radius;
+            planDirty = true;
+        }
         setMeasuredDimension(computeMeasuredDimension(widthMeasureSpec, radiusMaxScale * 2), computeMeasuredDimension(heightMeasureSpec, radiusMaxScale * 2));
     }
 
@@ -230,52 +352,435 @@ public class SimplePolygonView extends View {
         return size;
     }
 
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        updateDrawPlan();
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        super.onLayout(changed, left, top, right, bottom);
+        if (plan.paddingLeft != getPaddingLeft() || plan.paddingTop != getPaddingTop()
+                || plan.paddingRight != getPaddingRight() || plan.paddingBottom != getPaddingBottom()) {
+            planDirty = true;
+        }
+    }
+
     @Override
     protected void onDraw(final Canvas canvas) {
         super.onDraw(canvas);
-        centerX = getWidth() / 2;
-        centerY = getHeight() / 2;
-        radiusMaxScale -= outerStrokeWidth / 2;
-        canvas.clipRect(centerX - radiusMaxScale + getPaddingLeft(),
-                centerY - radiusMaxScale + getPaddingTop(),
-                centerX + radiusMaxScale - getPaddingTop(),
-                centerY + radiusMaxScale - getPaddingBottom());
-        canvas.translate(centerX, centerY);
-        canvas.rotate(rotation);
-
-        computePoint();
-
-        drawLine(canvas);
-        drawPolygon(canvas);
-        if (isShowDim) {
+        final PolygonMetrics metrics = this.metrics;
+        long frameStart = 0;
+        long phaseStart = 0;
+        long pathRebuilds = 0;
+        long pathCacheHits = 0;
+        long allocations = 0;
+        if (metrics != null) {
+            PolygonDrawHelper helper = PolygonDrawHelper.getInstance();
+            pathRebuilds = helper.getPathCacheMissCount();
+            pathCacheHits = helper.getPathCacheHitCount();
+            allocations = threadAllocCount();
+            frameStart = System.nanoTime();
+            phaseStart = frameStart;
+        }
+        if (planDirty) {
+            updateDrawPlan();
+        }
+        boolean isAnimationFrame = isDimAnimating;
+        if (isAnimationFrame) {
+            stepDimAnimation();
+        }
+
+        if (isAsyncGeometryEnabled) {
+            computePointAsync(isAnimationFrame);
+        } else {
+            computePoint();
+        }
+        computeSeriesPoint();
+        phaseStart = markPhase(metrics, PolygonMetrics.PHASE_COMPUTE, phaseStart);
+
+        boolean isGridCached = isGridCacheEnabled && updateGridCache();
+        if (isGridCached) {
+            canvas.drawBitmap(gridBitmap, 0, 0, null);
+            phaseStart = markPhase(metrics, PolygonMetrics.PHASE_GRID_CACHE, phaseStart);
+        }
+        applyPolygonTransform(canvas);
+        if (!isGridCached) {
+            drawLine(canvas);
+            phaseStart = markPhase(metrics, PolygonMetrics.PHASE_LINE, phaseStart);
+            drawPolygon(canvas);
+            phaseStart = markPhase(metrics, PolygonMetrics.PHASE_POLYGON, phaseStart);
+        }
+        if (sides == drawnSides) {
+            drawDimSeries(canvas);
+            phaseStart = markPhase(metrics, PolygonMetrics.PHASE_DIM_SERIES, phaseStart);
+        }
+        if (isShowDim && dimPointsSides == drawnSides) {
             drawDimArea(canvas);
-            drawDimCircle(canvas);
+            phaseStart = markPhase(metrics, PolygonMetrics.PHASE_DIM_AREA, phaseStart);
+            if (plan.hasDetail(DETAIL_DIM_CIRCLE)) {
+                drawDimCircle(canvas);
+                markPhase(metrics, PolygonMetrics.PHASE_DIM_CIRCLE, phaseStart);
+            }
+        }
+
+        if (metrics != null) {
+            long frameNanos = System.nanoTime() - frameStart;
+            PolygonDrawHelper helper = PolygonDrawHelper.getInstance();
+            metrics.onFrame(frameNanos,
+                    helper.getPathCacheMissCount() - pathRebuilds,
+                    helper.getPathCacheHitCount() - pathCacheHits,
+                    threadAllocCount() - allocations);
+        }
+    }
+
+    /**
+     * 按当前尺寸和属性重新编译绘制参数，半径或各层参数变化时重新获取路径，抗锯齿变化时更换画笔
+     */
+    private void updateDrawPlan() {
+        int radius = radiusMaxScale - outerStrokeWidth / 2;
+        int detail = isLevelOfDetailEnabled ? computeDetail(radius) : DETAIL_FULL;
+        PolygonDrawPlan previous = plan;
+        plan = new PolygonDrawPlan(getWidth(), getHeight(),
+                getPaddingLeft(), getPaddingTop(), getPaddingRight(), getPaddingBottom(), radius, rotation, layers, innerLayer, cornerRadius, detail);
+        planDirty = false;
+        if (!plan.isSameGeometry(previous)) {
+            geometryDirty = true;
+        }
+        if (plan.drawRadius != previous.drawRadius) {
+            dimDirty = true;
+            seriesDirty = true;
+        }
+        if (plan.hasDetail(DETAIL_ANTI_ALIAS) != previous.hasDetail(DETAIL_ANTI_ALIAS)) {
+            updateStyle();
+            boolean antiAlias = plan.hasDetail(DETAIL_ANTI_ALIAS);
+            for (int series = 0; series < seriesFillPaints.length; series++) {
+                seriesFillPaints[series].setAntiAlias(antiAlias);
+                seriesStrokePaints[series].setAntiAlias(antiAlias);
+            }
+        }
+        gridDirty = true;
+    }
+
+    /**
+     * @param radius 绘制半径，单位像素
+     * @return 半径对应保留的细节
+     */
+    private int computeDetail(int radius) {
+        int detail = DETAIL_FULL;
+        if (radius < cornerDetailRadius) {
+            detail &= ~DETAIL_CORNER;
+        }
+        if (radius < innerLayersDetailRadius) {
+            detail &= ~DETAIL_INNER_LAYERS;
+        }
+        if (radius < dimCircleDetailRadius) {
+            detail &= ~DETAIL_DIM_CIRCLE;
+        }
+        if (radius < antiAliasDetailRadius) {
+            detail &= ~DETAIL_ANTI_ALIAS;
+        }
+        return detail;
+    }
+
+    /**
+     * 分配计数只在 UI 线程调用过 {@link Debug#startAllocCounting()} 时有效。
+     * 这组接口已废弃但没有替代：{@link Debug#getRuntimeStat(String)} 需要 API 23 且统计整个进程，
+     * 无法区分本帧 UI 线程的分配。
+     *
+     * @return UI 线程已分配的对象数
+     */
+    @SuppressWarnings("deprecation")
+    private static long threadAllocCount() {
+        return Debug.getThreadAllocCount();
+    }
+
+    /**
+     * 结束一个阶段并上报耗时
+     *
+     * @param metrics 绘制指标，null 时直接返回
+     * @param phase   阶段
+     * @param start   阶段开始时间
+     * @return 下一阶段的开始时间
+     */
+    private static long markPhase(@Nullable PolygonMetrics metrics, int phase, long start) {
+        if (metrics == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        metrics.onPhase(phase, now - start);
+        return now;
+    }
+
+    /**
+     * 裁剪并将坐标原点移到多边形中心
+     */
+    private void applyPolygonTransform(Canvas canvas) {
+        canvas.clipRect(plan.clipLeft, plan.clipTop, plan.clipRight, plan.clipBottom);
+        canvas.translate(plan.centerX, plan.centerY);
+        canvas.rotate(plan.rotation);
+    }
+
+    /**
+     * 需要时重新绘制网格缓存
+     *
+     * @return true 缓存可用
+     */
+    private boolean updateGridCache() {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+        if (gridBitmap == null || gridBitmap.getWidth() != width || gridBitmap.getHeight() != height) {
+            releaseGridCache();
+            gridBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            gridCanvas = new Canvas(gridBitmap);
+            gridDirty = true;
+        }
+        if (gridDirty) {
+            gridBitmap.eraseColor(Color.TRANSPARENT);
+            int saveCount = gridCanvas.save();
+            applyPolygonTransform(gridCanvas);
+            drawLine(gridCanvas);
+            drawPolygon(gridCanvas);
+            gridCanvas.restoreToCount(saveCount);
+            gridDirty = false;
+        }
+        return true;
+    }
+
+    private void releaseGridCache() {
+        if (gridBitmap != null) {
+            gridBitmap.recycle();
+            gridBitmap = null;
+            gridCanvas = null;
+        }
+        gridDirty = true;
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        releaseGridCache();
+    }
+
+    /**
+     * 按当前时间插值维度值，动画未结束时请求下一帧
+     */
+    private void stepDimAnimation() {
+        long elapsed = currentAnimationTimeMillis() - animStartTime;
+        float fraction = elapsed >= animDuration ? 1f : Math.max(0f, (float) elapsed / animDuration);
+        float value = animInterpolator == null ? fraction : animInterpolator.getInterpolation(fraction);
+        for (int index = 0; index < sides; index++) {
+            float from = animFromPercentages[index];
+            mDimPercentages[index] = from + (animToPercentages[index] - from) * value;
+        }
+        dimDirty = true;
+        if (fraction >= 1f) {
+            isDimAnimating = false;
+        } else {
+            ViewCompat.postInvalidateOnAnimation(this);
         }
     }
 
     /**
-     * 计算顶点位置
+     * 计算顶点位置，只在几何参数或维度值变化后重新计算
      */
     private void computePoint() {
-        if (isShowDim) {
-            PolygonDrawHelper.getInstance().computeDimPoint(dimPointListX, dimPointListY, mDimPercentages, radiusMaxScale, sides);
+        if (geometryDirty) {
+            final PolygonDrawPlan plan = this.plan;
+            PolygonDrawHelper.getInstance().computeVertexPoint(minPoints, 0, plan.layerRadius(plan.innerLayer), sides, plan.layerCornerRadius(plan.innerLayer));
+            PolygonDrawHelper.getInstance().computeVertexPoint(maxPoints, 0, plan.drawRadius, sides, plan.cornerRadius);
+            if (layerPaths.length != plan.layers) {
+                layerPaths = new Path[plan.layers];
+            }
+            for (int i = 1; i <= plan.layers; i++) {
+                layerPaths[i - 1] = PolygonDrawHelper.getInstance().obtainPolygonPath(sides, plan.layerRadius(i), plan.layerCornerRadius(i));
+            }
+            drawnSides = sides;
+            drawnLayers = plan.layers;
+            drawnInnerLayer = plan.innerLayer;
+            updateSpokeLines();
+            geometryDirty = false;
+            gridDirty = true;
+        }
+        if (isShowDim && dimDirty) {
+            computeDimPoint();
+        }
+    }
+
+    private void computeDimPoint() {
+        PolygonDrawHelper.getInstance().computeDimPoint(dimPoints, 0, mDimPercentages, 0, plan.drawRadius, sides);
+        dimPointsSides = sides;
+        dimDirty = false;
+        dimBoundsOutset = computeDimBoundsOutset();
+        PolygonGeometry.computeDimBounds(drawnDimBounds, mDimPercentages, 0, plan.drawRadius, sides, plan.rotation, dimBoundsOutset);
+        dimBoundsPlan = plan;
+    }
+
+    /**
+     * @return 包围盒需要扩展的距离：维度顶点圆半径，或尖角处斜接的边（默认斜接限制 4 倍半边宽），再加 1 像素抗锯齿
+     */
+    private float computeDimBoundsOutset() {
+        return Math.max(Math.max(dimCircleRadiusBackground, dimCircleRadius), outerStrokeWidth * 2) + 1;
+    }
+
+    /**
+     * 维度数据变化后重绘。软件绘制且屏幕上的包围盒有效时只重绘新旧维度区域包围盒的并集，否则整体重绘。
+     * 硬件加速时 API 21 及以上会忽略重绘区域，不再计算包围盒。
+     */
+    private void invalidateDim() {
+        if (isHardwareAccelerated()
+                || !isShowDim || isAsyncGeometryEnabled || isDimAnimating || planDirty || geometryDirty
+                || dimBoundsPlan != plan || dimBoundsOutset != computeDimBoundsOutset()
+                || mDimPercentages.length != sides) {
+            invalidate();
+            return;
+        }
+        PolygonGeometry.computeDimBounds(nextDimBounds, mDimPercentages, 0, plan.drawRadius, sides, plan.rotation, dimBoundsOutset);
+        float left = Math.min(drawnDimBounds[0], nextDimBounds[0]);
+        float top = Math.min(drawnDimBounds[1], nextDimBounds[1]);
+        float right = Math.max(drawnDimBounds[2], nextDimBounds[2]);
+        float bottom = Math.max(drawnDimBounds[3], nextDimBounds[3]);
+        invalidateRect((int) Math.floor(plan.centerX + left), (int) Math.floor(plan.centerY + top),
+                (int) Math.ceil(plan.centerX + right), (int) Math.ceil(plan.centerY + bottom));
+    }
+
+    /**
+     * 按区域重绘在 API 28 废弃，只在软件绘制时调用，这里仍然有效
+     */
+    @SuppressWarnings("deprecation")
+    private void invalidateRect(int left, int top, int right, int bottom) {
+        invalidate(left, top, right, bottom);
+    }
+
+    /**
+     * 异步模式下提交后台构建，并取用已完成的一帧；尚未完成时继续绘制上一帧。
+     * 动画帧的维度坐标计算量小且每帧都变，仍在 UI 线程计算。
+     *
+     * @param isAnimationFrame true 本帧推进了维度动画
+     */
+    private void computePointAsync(boolean isAnimationFrame) {
+        if (isAnimationFrame) {
+            if (geometryDirty) {
+                requestFrame();
+            }
+            if (isShowDim && dimDirty && sides == drawnSides) {
+                computeDimPoint();
+            }
+        } else if (geometryDirty || (isShowDim && dimDirty)) {
+            requestFrame();
+        }
+        PolygonFrame frame = pendingFrame.getAndSet(null);
+        if (frame != null && frame.generation > drawnGeneration) {
+            adoptFrame(frame);
+        }
+    }
+
+    /**
+     * 按当前属性在后台构建一帧
+     */
+    private void requestFrame() {
+        final int generation = ++requestedGeneration;
+        final int sides = this.sides;
+        final PolygonDrawPlan plan = this.plan;
+        final float[] dims = isShowDim && mDimPercentages.length == sides ? Arrays.copyOf(mDimPercentages, sides) : null;
+        geometryDirty = false;
+        dimDirty = false;
+        geometryExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                publishFrame(PolygonFrame.build(generation, sides, plan, dims));
+            }
+        });
+    }
+
+    /**
+     * 后台线程调用，只保留序号最大的一帧
+     */
+    private void publishFrame(PolygonFrame frame) {
+        while (true) {
+            PolygonFrame current = pendingFrame.get();
+            if (current != null && current.generation > frame.generation) {
+                return;
+            }
+            if (pendingFrame.compareAndSet(current, frame)) {
+                postInvalidate();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 将构建完成的一帧拷贝到绘制用的缓存，帧本身不被修改
+     */
+    private void adoptFrame(PolygonFrame frame) {
+        if (maxPoints.length < frame.sides * 2) {
+            maxPoints = new float[frame.sides * 2];
+            minPoints = new float[frame.sides * 2];
+            dimPoints = new float[frame.sides * 2];
+        }
+        System.arraycopy(frame.minPoints, 0, minPoints, 0, frame.sides * 2);
+        System.arraycopy(frame.maxPoints, 0, maxPoints, 0, frame.sides * 2);
+        if (layerPaths.length != frame.layers) {
+            layerPaths = new Path[frame.layers];
+        }
+        System.arraycopy(frame.layerPaths, 0, layerPaths, 0, frame.layers);
+        if (frame.dimPoints != null) {
+            System.arraycopy(frame.dimPoints, 0, dimPoints, 0, frame.sides * 2);
+            dimBoundsPlan = null;
+            dimPointsSides = frame.sides;
+        } else if (dimPointsSides != frame.sides) {
+            dimPointsSides = 0;
+        }
+        drawnSides = frame.sides;
+        drawnLayers = frame.layers;
+        drawnInnerLayer = frame.innerLayer;
+        updateSpokeLines();
+        drawnGeneration = frame.generation;
+        gridDirty = true;
+    }
+
+    /**
+     * 由顶点坐标生成 drawLines 所需的连线端点
+     */
+    private void updateSpokeLines() {
+        if (spokeLines.length < drawnSides * 4) {
+            spokeLines = new float[drawnSides * 4];
+        }
+        for (int i = 0; i < drawnSides; i++) {
+            spokeLines[i * 4] = minPoints[i * 2];
+            spokeLines[i * 4 + 1] = minPoints[i * 2 + 1];
+            spokeLines[i * 4 + 2] = maxPoints[i * 2];
+            spokeLines[i * 4 + 3] = maxPoints[i * 2 + 1];
+        }
+    }
+
+    private void computeSeriesPoint() {
+        if (seriesDirty) {
+            for (int series = 0; series < seriesCount; series++) {
+                PolygonDrawHelper.getInstance().computeDimPoint(seriesPoints, series * sides * 2, seriesPercentages, series * sides, plan.drawRadius, sides);
+            }
+            seriesDirty = false;
         }
-        PolygonDrawHelper.getInstance().computeVertexPoint(minPointListX, minPointListY, radiusMaxScale * innerLayer / layers, sides, cornerRadius * innerLayer / layers);
-        PolygonDrawHelper.getInstance().computeVertexPoint(maxPointListX, maxPointListY, radiusMaxScale, sides, cornerRadius);
     }
 
     /**
      * 绘制多边形
      */
     private void drawPolygon(Canvas canvas) {
-        for (int i = 1; i <= layers; i++) {
-            float radius = radiusMaxScale * i / layers;
-            if (i == innerLayer) {
-                PolygonDrawHelper.getInstance().drawPolygon(canvas, sides, centerX, centerY, radius, cornerRadius * i / layers, polygonInnerFillPaint);
+        boolean isDrawInnerLayers = plan.hasDetail(DETAIL_INNER_LAYERS);
+        for (int i = 1; i <= drawnLayers; i++) {
+            if (i == drawnInnerLayer) {
+                canvas.drawPath(layerPaths[i - 1], style.innerFillPaint);
+            }
+            if (!isDrawInnerLayers && i != drawnLayers) {
+                continue;
             }
 
-            polygonStrokePaint.setStrokeWidth(i != layers ? 1f : outerStrokeWidth);
-            PolygonDrawHelper.getInstance().drawPath(canvas, sides, centerX, centerY, radius, cornerRadius * i / layers, polygonStrokePaint);
+            canvas.drawPath(layerPaths[i - 1], i != drawnLayers ? style.layerStrokePaint : style.outerStrokePaint);
         }
     }
 
@@ -283,11 +788,15 @@ public class SimplePolygonView extends View {
      * 画出从中心向各顶点的连线
      */
     private void drawLine(Canvas canvas) {
-        for (int i = 0; i < sides; i++) {
+        if (isBatchDrawEnabled) {
+            canvas.drawLines(spokeLines, 0, drawnSides * 4, style.vertexLinePaint);
+            return;
+        }
+        for (int i = 0; i < drawnSides; i++) {
             tempPath.reset();
-            tempPath.moveTo(minPointListX.get(i), minPointListY.get(i));
-            tempPath.lineTo(maxPointListX.get(i), maxPointListY.get(i));
-            canvas.drawPath(tempPath, vertexLinePaint);
+            tempPath.moveTo(minPoints[i * 2], minPoints[i * 2 + 1]);
+            tempPath.lineTo(maxPoints[i * 2], maxPoints[i * 2 + 1]);
+            canvas.drawPath(tempPath, style.vertexLinePaint);
         }
     }
 
@@ -295,28 +804,57 @@ public class SimplePolygonView extends View {
      * 绘制维度区域
      */
     private void drawDimArea(Canvas canvas) {
+        constructDimPath(dimPoints, 0);
+        canvas.drawPath(tempPath, style.dimFillPaint);
+        canvas.drawPath(tempPath, style.dimStrokePaint);
+    }
+
+    /**
+     * 绘制多组维度区域，共用一次网格绘制
+     */
+    private void drawDimSeries(Canvas canvas) {
+        for (int series = 0; series < seriesCount; series++) {
+            constructDimPath(seriesPoints, series * sides * 2);
+            canvas.drawPath(tempPath, seriesFillPaints[series]);
+            canvas.drawPath(tempPath, seriesStrokePaints[series]);
+        }
+    }
+
+    /**
+     * 用维度坐标构建 tempPath
+     *
+     * @param points 维度坐标
+     * @param offset 起始下标
+     */
+    private void constructDimPath(float[] points, int offset) {
         tempPath.reset();
-        for (int i = 0; i < sides; i++) {
+        for (int i = 0; i < drawnSides; i++) {
             if (i == 0) {
-                tempPath.moveTo(dimPointListX.get(i), dimPointListY.get(i));
+                tempPath.moveTo(points[offset + i * 2], points[offset + i * 2 + 1]);
             } else {
-                tempPath.lineTo(dimPointListX.get(i), dimPointListY.get(i));
+                tempPath.lineTo(points[offset + i * 2], points[offset + i * 2 + 1]);
             }
         }
         tempPath.close();
-        canvas.drawPath(tempPath, dimFillPaint);
-        canvas.drawPath(tempPath, dimStrokePaint);
     }
 
     /**
      * 绘制维度顶点
      */
     private void drawDimCircle(Canvas canvas) {
-        for (int i = 0; i < sides; i++) {
-            dimCircleFillPaint.setColor(dimCircleColorBackground);
-            canvas.drawCircle(dimPointListX.get(i), dimPointListY.get(i), dimCircleRadiusBackground, dimCircleFillPaint);
-            dimCircleFillPaint.setColor(dimCircleColor);
-            canvas.drawCircle(dimPointListX.get(i), dimPointListY.get(i), dimCircleRadius, dimCircleFillPaint);
+        if (isBatchDrawEnabled) {
+            // 线宽为 0 时会画出一个像素的点，与半径为 0 的 drawCircle 不一致
+            if (dimCircleRadiusBackground > 0) {
+                canvas.drawPoints(dimPoints, 0, drawnSides * 2, style.dimCircleBackgroundPointPaint);
+            }
+            if (dimCircleRadius > 0) {
+                canvas.drawPoints(dimPoints, 0, drawnSides * 2, style.dimCirclePointPaint);
+            }
+            return;
+        }
+        for (int i = 0; i < drawnSides; i++) {
+            canvas.drawCircle(dimPoints[i * 2], dimPoints[i * 2 + 1], dimCircleRadiusBackground, style.dimCircleBackgroundPaint);
+            canvas.drawCircle(dimPoints[i * 2], dimPoints[i * 2 + 1], dimCircleRadius, style.dimCirclePaint);
         }
     }
 
@@ -325,7 +863,30 @@ public class SimplePolygonView extends View {
      * @param layers 多边形层数
      */
     public void setPolygonLayers(@IntRange(from = 1) int layers) {
-        this.layers = layers;
+        currentSpec = null;
+        if (applyLayers(layers)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * 测试点击位置，使用最近一次绘制的几何数据，不分配对象也不重新构建路径，适合在拖动时连续调用。
+     *
+     * @param x           View 坐标系中的 x
+     * @param y           View 坐标系中的 y
+     * @param touchRadius 维度顶点的触摸半径，单位像素
+     * @param result      接收结果
+     * @return true 点击在多边形内或维度顶点上；尚未绘制时为 false
+     */
+    public boolean hitTest(float x, float y, float touchRadius, PolygonHitResult result) {
+        final PolygonDrawPlan plan = this.plan;
+        if (drawnSides == 0 || plan.drawRadius <= 0) {
+            result.reset();
+            return false;
+        }
+        float[] points = isShowDim && dimPointsSides == drawnSides ? dimPoints : null;
+        return PolygonGeometry.hitTest(x - plan.centerX, y - plan.centerY, drawnSides, drawnLayers, plan.drawRadius, plan.rotation,
+                points, 0, touchRadius, result);
     }
 
     /**
@@ -339,73 +900,333 @@ public class SimplePolygonView extends View {
      * @param sides 多边形边数
      */
     public void setPolygonSides(@IntRange(from = 3) int sides) {
-        this.sides = sides;
+        currentSpec = null;
+        if (applySides(sides)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * 坐标缓存按边数预留容量
+     */
+    private void ensurePointCapacity() {
+        if (maxPoints.length < sides * 2) {
+            maxPoints = new float[sides * 2];
+            minPoints = new float[sides * 2];
+            dimPoints = new float[sides * 2];
+        }
     }
 
     /**
      * @param rotation 多边形旋转角度
      */
     public void setPolygonRotation(int rotation) {
-        this.rotation = rotation;
+        currentSpec = null;
+        if (applyRotation(rotation)) {
+            invalidate();
+        }
     }
 
     /**
      * @param cornerRadius 圆角弧度半径
      */
     public void setPolygonCornerRadius(int cornerRadius) {
-        this.cornerRadius = Utils.dp2px(context, cornerRadius);
+        currentSpec = null;
+        if (applyCornerRadius(cornerRadius)) {
+            invalidate();
+        }
     }
 
     /**
      * @param radius 维度圆点背景半径
      */
     public void setPolygonDimCircleRadiusBackground(int radius) {
-        this.dimCircleRadiusBackground = Utils.dp2px(context, radius);
+        currentSpec = null;
+        if (applyDimCircleRadiusBackground(radius)) {
+            updateStyle();
+            invalidate();
+        }
     }
 
     /**
      * @param radius 维度圆点半径
      */
     public void setPolygonDimCircleRadius(int radius) {
-        this.dimCircleRadius = Utils.dp2px(context, radius);
+        currentSpec = null;
+        if (applyDimCircleRadius(radius)) {
+            updateStyle();
+            invalidate();
+        }
     }
 
     /**
      * @param scale 多边形scale
      */
     public void setPolygonScale(float scale) {
-        this.scale = scale;
+        currentSpec = null;
+        if (applyScale(scale)) {
+            requestLayout();
+            invalidate();
+        }
     }
 
     /**
      * @param value 多边形最外围半径
      */
     public void setPolygonRadiusMax(int value) {
-        this.radiusMax = Utils.dp2px(context, value);
+        currentSpec = null;
+        if (applyRadiusMax(value)) {
+            requestLayout();
+            invalidate();
+        }
     }
 
     /**
      * @param value 多边形指定内层
      */
     public void setPolygonInnerLayer(int value) {
-        this.innerLayer = value;
+        currentSpec = null;
+        if (applyInnerLayer(value)) {
+            invalidate();
+        }
     }
 
     /**
      * @param value 多边形最外层边宽度
      */
     public void setPolygonOuterStrokeWidth(int value) {
-        this.outerStrokeWidth = Utils.dp2px(context, value);
+        currentSpec = null;
+        if (applyOuterStrokeWidth(value)) {
+            updateStyle();
+            invalidate();
+        }
+    }
+
+    private boolean applyLayers(int layers) {
+        if (this.layers == layers) {
+            return false;
+        }
+        this.layers = layers;
+        geometryDirty = true;
+        planDirty = true;
+        return true;
+    }
+
+    private boolean applySides(int sides) {
+        if (this.sides == sides) {
+            return false;
+        }
+        this.sides = sides;
+        ensurePointCapacity();
+        isDimAnimating = false;
+        seriesCount = 0;
+        geometryDirty = true;
+        dimDirty = true;
+        return true;
+    }
+
+    private boolean applyRotation(int rotation) {
+        if (this.rotation == rotation) {
+            return false;
+        }
+        this.rotation = rotation;
+        gridDirty = true;
+        planDirty = true;
+        return true;
+    }
+
+    private boolean applyCornerRadius(int cornerRadius) {
+        float value = Utils.dp2px(context, cornerRadius);
+        if (this.cornerRadius == value) {
+            return false;
+        }
+        this.cornerRadius = value;
+        geometryDirty = true;
+        planDirty = true;
+        return true;
+    }
+
+    private boolean applyDimCircleRadiusBackground(int radius) {
+        float value = Utils.dp2px(context, radius);
+        if (this.dimCircleRadiusBackground == value) {
+            return false;
+        }
+        this.dimCircleRadiusBackground = value;
+        return true;
+    }
+
+    private boolean applyDimCircleRadius(int radius) {
+        float value = Utils.dp2px(context, radius);
+        if (this.dimCircleRadius == value) {
+            return false;
+        }
+        this.dimCircleRadius = value;
+        return true;
+    }
+
+    private boolean applyScale(float scale) {
+        if (this.scale == scale) {
+            return false;
+        }
+        this.scale = scale;
+        return true;
+    }
+
+    private boolean applyRadiusMax(int value) {
+        int radius = Utils.dp2px(context, value);
+        if (this.radiusMax == radius) {
+            return false;
+        }
+        this.radiusMax = radius;
+        return true;
+    }
+
+    private boolean applyInnerLayer(int value) {
+        if (this.innerLayer == value) {
+            return false;
+        }
+        this.innerLayer = value;
+        geometryDirty = true;
+        planDirty = true;
+        return true;
+    }
+
+    private boolean applyOuterStrokeWidth(int value) {
+        int width = Utils.dp2px(context, value);
+        if (this.outerStrokeWidth == width) {
+            return false;
+        }
+        this.outerStrokeWidth = width;
+        for (int series = 0; series < seriesStrokePaints.length; series++) {
+            seriesStrokePaints[series].setStrokeWidth(width);
+        }
+        gridDirty = true;
+        planDirty = true;
+        return true;
+    }
+
+    /**
+     * 网格（各层多边形和顶点连线）只在相关属性变化时重新绘制到位图，
+     * 其余帧直接绘制位图，适合维度数据频繁变化的场景。
+     *
+     * @param enabled true 开启网格缓存
+     */
+    public void setPolygonGridCacheEnabled(boolean enabled) {
+        if (isGridCacheEnabled != enabled) {
+            isGridCacheEnabled = enabled;
+            if (!enabled) {
+                releaseGridCache();
+            }
+            invalidate();
+        }
+    }
+
+    /**
+     * 开启后按绘制半径自动降低细节，适合大量缩略图：半径依次低于阈值时去掉圆角、
+     * 内层的边、维度顶点圆，最后关闭抗锯齿。默认关闭。
+     *
+     * @param enabled true 开启细节级别
+     */
+    public void setPolygonLevelOfDetailEnabled(boolean enabled) {
+        if (isLevelOfDetailEnabled != enabled) {
+            isLevelOfDetailEnabled = enabled;
+            planDirty = true;
+            invalidate();
+        }
+    }
+
+    /**
+     * 设置细节级别的半径阈值，绘制半径小于阈值时去掉对应细节，默认依次为 48、32、24、16dp
+     *
+     * @param cornerRadius  小于该半径时不绘制圆角，单位dp
+     * @param innerLayers   小于该半径时只绘制最外层的边和指定内层填充，单位dp
+     * @param dimCircle     小于该半径时不绘制维度顶点圆，单位dp
+     * @param antiAlias     小于该半径时关闭抗锯齿，单位dp
+     */
+    public void setPolygonLevelOfDetailThresholds(int cornerRadius, int innerLayers, int dimCircle, int antiAlias) {
+        if (cornerRadius < 0 || innerLayers < 0 || dimCircle < 0 || antiAlias < 0) {
+            throw new IllegalArgumentException(TAG + " : level of detail thresholds should >= 0");
+        }
+        cornerDetailRadius = Utils.dp2px(context, cornerRadius);
+        innerLayersDetailRadius = Utils.dp2px(context, innerLayers);
+        dimCircleDetailRadius = Utils.dp2px(context, dimCircle);
+        antiAliasDetailRadius = Utils.dp2px(context, antiAlias);
+        planDirty = true;
+        invalidate();
+    }
+
+    /**
+     * 开启后顶点、各层路径和维度坐标在 executor 上构建，UI 线程只绘制构建完成的数据；
+     * 构建未完成时继续显示上一帧。首次构建完成前不绘制多边形。
+     *
+     * @param enabled true 开启后台构建
+     */
+    public void setPolygonAsyncGeometryEnabled(boolean enabled) {
+        if (isAsyncGeometryEnabled != enabled) {
+            isAsyncGeometryEnabled = enabled;
+            pendingFrame.set(null);
+            if (!enabled) {
+                ensurePointCapacity();
+            }
+            geometryDirty = true;
+            dimDirty = true;
+            invalidate();
+        }
+    }
+
+    /**
+     * @param executor 后台构建使用的 executor，null 恢复默认的 {@link AsyncTask#THREAD_POOL_EXECUTOR}
+     */
+    public void setPolygonGeometryExecutor(@Nullable Executor executor) {
+        geometryExecutor = executor == null ? AsyncTask.THREAD_POOL_EXECUTOR : executor;
+    }
+
+    /**
+     * 设置绘制指标，每帧回调各阶段耗时、路径构建与缓存命中数。可以使用 {@link HistogramPolygonMetrics}。
+     *
+     * @param metrics null 关闭统计
+     */
+    public void setPolygonMetrics(@Nullable PolygonMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 默认开启。关闭后每条顶点连线、每个维度顶点圆单独绘制，用于对比或排查绘制差异。
+     *
+     * @param enabled true 顶点连线合并为一次 drawLines，维度顶点圆合并为圆头的 drawPoints
+     */
+    public void setPolygonBatchDrawEnabled(boolean enabled) {
+        if (isBatchDrawEnabled != enabled) {
+            isBatchDrawEnabled = enabled;
+            gridDirty = true;
+            invalidate();
+        }
     }
 
     /**
      * @param isShowDim true 显示维度区域
      */
     public void setPolygonShowDim(boolean isShowDim) {
-        if (sides != mDimPercentages.size()) {
+        checkShowDim();
+        currentSpec = null;
+        if (this.isShowDim != isShowDim) {
+            this.isShowDim = isShowDim;
+            dimDirty = true;
+            invalidate();
+        }
+    }
+
+    private void checkShowDim() {
+        checkShowDim(sides);
+    }
+
+    /**
+     * @param sides 显示维度时的边数
+     */
+    private void checkShowDim(int sides) {
+        if (sides != mDimPercentages.length) {
             throw new IllegalArgumentException(TAG + " : should  setDimPercentages() first.");
         }
-        this.isShowDim = isShowDim;
     }
 
     /**
@@ -415,60 +1236,384 @@ public class SimplePolygonView extends View {
         if (sides != dimPercentages.size()) {
             throw new IllegalArgumentException(TAG + " : sides != mDimPercentages.size() sides = " + sides + " dimPercentages.size() = " + dimPercentages.size());
         }
+        float[] values = new float[dimPercentages.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = dimPercentages.get(index);
+        }
+        setDimPercentages(values);
+    }
+
+    /**
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0，数据会被拷贝
+     */
+    public void setDimPercentages(float[] dimPercentages) {
+        setDimPercentagesInternal(dimPercentages);
+        invalidateDim();
+    }
+
+    /**
+     * 直接从 buffer 读取维度值，适合 {@link com.lyldding.geometry.PolygonDataset#record(int)} 的视图，不需要先转成数组。
+     * 记录的边数已在打开数据集时检查，这里只读取一遍，读取时检查范围；值超出范围时抛出异常，已读取的值保留并重绘
+     *
+     * @param dimPercentages 从 position 开始的 sides 个维度值 0.0 - 1.0，数据会被拷贝，读取后 position 不变
+     */
+    public void setDimPercentages(FloatBuffer dimPercentages) {
+        final int position = dimPercentages.position();
+        if (dimPercentages.limit() - position < sides) {
+            throw new IllegalArgumentException(TAG + " : dimPercentages.remaining() < sides sides = " + sides
+                    + " dimPercentages.remaining() = " + dimPercentages.remaining());
+        }
+        isDimAnimating = false;
+        if (mDimPercentages.length != sides) {
+            mDimPercentages = new float[sides];
+        }
+        dimDirty = true;
+        for (int index = 0; index < sides; index++) {
+            float percentage = dimPercentages.get(position + index);
+            if (percentage < 0.0 || percentage > 1.0) {
+                invalidate();
+                throw new IllegalArgumentException(TAG + " : percentage = " + percentage);
+            }
+            mDimPercentages[index] = percentage;
+        }
+        invalidateDim();
+    }
+
+    private void setDimPercentagesInternal(float[] dimPercentages) {
+        checkDimPercentages(dimPercentages);
+        copyDimPercentages(dimPercentages);
+    }
+
+    /**
+     * 拷贝已检查过的维度值
+     */
+    private void copyDimPercentages(float[] dimPercentages) {
+        isDimAnimating = false;
+        if (mDimPercentages.length != dimPercentages.length) {
+            mDimPercentages = new float[dimPercentages.length];
+        }
+        System.arraycopy(dimPercentages, 0, mDimPercentages, 0, dimPercentages.length);
+        dimDirty = true;
+    }
+
+    /**
+     * 从当前值动画过渡到目标值。动画进行中再次调用时，从当前帧的值开始过渡到新的目标值。
+     *
+     * @param target       每个维度的目标百分比值 0.0 - 1.0，数据会被拷贝
+     * @param durationMs   动画时长，小于等于 0 时直接设置
+     * @param interpolator 插值器，null 为线性
+     */
+    public void animateDimPercentages(float[] target, long durationMs, @Nullable TimeInterpolator interpolator) {
+        if (durationMs <= 0) {
+            setDimPercentages(target);
+            return;
+        }
+        checkDimPercentages(target);
+        if (animToPercentages.length != sides) {
+            animFromPercentages = new float[sides];
+            animToPercentages = new float[sides];
+        }
+        if (mDimPercentages.length != sides) {
+            // 没有旧数据时从中心展开
+            mDimPercentages = new float[sides];
+        }
+        System.arraycopy(mDimPercentages, 0, animFromPercentages, 0, sides);
+        System.arraycopy(target, 0, animToPercentages, 0, sides);
+        animStartTime = currentAnimationTimeMillis();
+        animDuration = durationMs;
+        animInterpolator = interpolator;
+        isDimAnimating = true;
+        ViewCompat.postInvalidateOnAnimation(this);
+    }
+
+    /**
+     * 停止维度动画，停留在当前帧的值
+     */
+    public void cancelDimAnimation() {
+        isDimAnimating = false;
+    }
+
+    /**
+     * @return true 维度动画进行中
+     */
+    public boolean isDimAnimating() {
+        return isDimAnimating;
+    }
+
+    /**
+     * 动画时间，与 {@link ViewCompat#postInvalidateOnAnimation(View)} 的帧时间一致
+     */
+    @VisibleForTesting
+    long currentAnimationTimeMillis() {
+        return AnimationUtils.currentAnimationTimeMillis();
+    }
+
+    /**
+     * @param index 维度下标
+     * @return 当前帧的维度值
+     */
+    @VisibleForTesting
+    float getDimPercentage(int index) {
+        return mDimPercentages[index];
+    }
+
+    /**
+     * 设置多组维度数据，在同一个网格上叠加绘制，绘制在 {@link #setDimPercentages(float[])} 的维度区域下方。
+     *
+     * @param percentages  各组维度的百分比值 0.0 - 1.0，第 n 组从 n * sides 开始，数据会被拷贝
+     * @param seriesCount  组数
+     * @param fillColors   各组填充色
+     * @param strokeColors 各组边颜色
+     */
+    public void setDimSeries(float[] percentages, int seriesCount, @ColorInt int[] fillColors, @ColorInt int[] strokeColors) {
+        if (seriesCount < 0 || percentages.length < seriesCount * sides) {
+            throw new IllegalArgumentException(TAG + " : percentages.length < seriesCount * sides");
+        }
+        if (fillColors.length < seriesCount || strokeColors.length < seriesCount) {
+            throw new IllegalArgumentException(TAG + " : colors.length < seriesCount");
+        }
+        for (int index = 0; index < seriesCount * sides; index++) {
+            if (percentages[index] < 0.0 || percentages[index] > 1.0) {
+                throw new IllegalArgumentException(TAG + " : percentage = " + percentages[index]);
+            }
+        }
+        if (seriesPercentages.length < seriesCount * sides) {
+            seriesPercentages = new float[seriesCount * sides];
+            seriesPoints = new float[seriesCount * sides * 2];
+        }
+        System.arraycopy(percentages, 0, seriesPercentages, 0, seriesCount * sides);
+        if (seriesFillPaints.length < seriesCount) {
+            Paint[] fillPaints = new Paint[seriesCount];
+            Paint[] strokePaints = new Paint[seriesCount];
+            System.arraycopy(seriesFillPaints, 0, fillPaints, 0, seriesFillPaints.length);
+            System.arraycopy(seriesStrokePaints, 0, strokePaints, 0, seriesStrokePaints.length);
+            for (int series = seriesFillPaints.length; series < seriesCount; series++) {
+                fillPaints[series] = new Paint(ANTI_ALIAS_FLAG);
+                fillPaints[series].setStyle(Paint.Style.FILL);
+                fillPaints[series].setAntiAlias(plan.hasDetail(DETAIL_ANTI_ALIAS));
+                strokePaints[series] = new Paint(ANTI_ALIAS_FLAG);
+                strokePaints[series].setStyle(Paint.Style.STROKE);
+                strokePaints[series].setAntiAlias(plan.hasDetail(DETAIL_ANTI_ALIAS));
+            }
+            seriesFillPaints = fillPaints;
+            seriesStrokePaints = strokePaints;
+        }
+        for (int series = 0; series < seriesCount; series++) {
+            seriesFillPaints[series].setColor(fillColors[series]);
+            seriesStrokePaints[series].setColor(strokeColors[series]);
+            seriesStrokePaints[series].setStrokeWidth(outerStrokeWidth);
+        }
+        this.seriesCount = seriesCount;
+        seriesDirty = true;
+        invalidate();
+    }
+
+    /**
+     * 清除多组维度数据
+     */
+    public void clearDimSeries() {
+        if (seriesCount != 0) {
+            seriesCount = 0;
+            invalidate();
+        }
+    }
+
+    /**
+     * @return 维度数据组数
+     */
+    public int getDimSeriesCount() {
+        return seriesCount;
+    }
+
+    private void checkDimPercentages(float[] dimPercentages) {
+        checkDimPercentages(dimPercentages, sides);
+    }
+
+    /**
+     * @param sides 数据对应的边数
+     */
+    private static void checkDimPercentages(float[] dimPercentages, int sides) {
+        if (sides != dimPercentages.length) {
+            throw new IllegalArgumentException(TAG + " : sides != mDimPercentages.length sides = " + sides + " dimPercentages.length = " + dimPercentages.length);
+        }
         for (float percentage : dimPercentages) {
             if (percentage < 0.0 || percentage > 1.0) {
                 throw new IllegalArgumentException(TAG + " : percentage = " + percentage);
             }
         }
-        mDimPercentages = dimPercentages;
     }
 
     /**
      * @param color 维度顶点圆填充色
      */
     public void setColorDimCircle(@ColorInt int color) {
-        dimCircleColor = color;
+        currentSpec = null;
+        if (dimCircleColor != color) {
+            dimCircleColor = color;
+            updateStyle();
+            invalidate();
+        }
     }
 
     /**
      * @param color 维度顶点圆背景填充色
      */
     public void setColorDimCircleBackground(@ColorInt int color) {
-        dimCircleColorBackground = color;
+        currentSpec = null;
+        if (dimCircleColorBackground != color) {
+            dimCircleColorBackground = color;
+            updateStyle();
+            invalidate();
+        }
     }
 
     /**
      * @param color 多边形边颜色
      */
     public void setColorPolygonStroke(@ColorInt int color) {
-        polygonStrokePaint.setColor(color);
+        currentSpec = null;
+        if (polygonStrokeColor != color) {
+            polygonStrokeColor = color;
+            updateStyle();
+            gridDirty = true;
+            invalidate();
+        }
     }
 
     /**
      * @param color 多边形内层填充色
      */
     public void setColorPolygonFill(@ColorInt int color) {
-        polygonInnerFillPaint.setColor(color);
+        currentSpec = null;
+        if (polygonInnerFillColor != color) {
+            polygonInnerFillColor = color;
+            updateStyle();
+            gridDirty = true;
+            invalidate();
+        }
     }
 
     /**
      * @param color 各层顶点连线颜色
      */
     public void setColorVertexLinePaint(@ColorInt int color) {
-        vertexLinePaint.setColor(color);
+        currentSpec = null;
+        if (vertexLinePaintColor != color) {
+            vertexLinePaintColor = color;
+            updateStyle();
+            gridDirty = true;
+            invalidate();
+        }
     }
 
     /**
      * @param color 维度区域填充色
      */
     public void setColorDimFill(@ColorInt int color) {
-        dimFillPaint.setColor(color);
+        currentSpec = null;
+        if (dimFillColor != color) {
+            dimFillColor = color;
+            updateStyle();
+            invalidate();
+        }
     }
 
     /**
      * @param color 维度区域边颜色
      */
     public void setColorDimStroke(@ColorInt int color) {
-        dimStrokePaint.setColor(color);
+        currentSpec = null;
+        if (dimStrokeColor != color) {
+            dimStrokeColor = color;
+            updateStyle();
+            invalidate();
+        }
+    }
+
+    /**
+     * 按当前颜色和边宽取得共享画笔
+     */
+    private void updateStyle() {
+        style = PolygonStyle.obtain(polygonStrokeColor, polygonInnerFillColor, vertexLinePaintColor,
+                dimFillColor, dimStrokeColor, dimCircleColorBackground, dimCircleColor, outerStrokeWidth,
+                dimCircleRadiusBackground, dimCircleRadius, plan.hasDetail(DETAIL_ANTI_ALIAS));
+    }
+
+    /**
+     * 一次性应用全部属性和维度数据，属性与当前一致时跳过，
+     * 只有最外围半径或 scale 变化时才会重新布局。
+     *
+     * @param spec           全部属性
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0，数据会被拷贝；null 保留当前数据
+     */
+    public void bind(PolygonSpec spec, @Nullable float[] dimPercentages) {
+        // 先按新的边数检查数据，检查失败时不修改任何状态
+        if (dimPercentages != null) {
+            checkDimPercentages(dimPercentages, spec.getSides());
+        } else if (spec.isShowDim()) {
+            checkShowDim(spec.getSides());
+        }
+        boolean changed = false;
+        boolean sizeChanged = false;
+        if (!spec.equals(currentSpec)) {
+            changed |= applySides(spec.getSides());
+            changed |= applyLayers(spec.getLayers());
+            changed |= applyInnerLayer(spec.getInnerLayer());
+            changed |= applyRotation(spec.getRotation());
+            changed |= applyCornerRadius(spec.getCornerRadius());
+            boolean styleChanged = applyOuterStrokeWidth(spec.getOuterStrokeWidth());
+            styleChanged |= applyDimCircleRadiusBackground(spec.getDimCircleRadiusBackground());
+            styleChanged |= applyDimCircleRadius(spec.getDimCircleRadius());
+            sizeChanged |= applyScale(spec.getScale());
+            sizeChanged |= applyRadiusMax(spec.getRadiusMax());
+
+            if (polygonStrokeColor != spec.getStrokeColor()
+                    || polygonInnerFillColor != spec.getInnerFillColor()
+                    || vertexLinePaintColor != spec.getVertexLineColor()) {
+                polygonStrokeColor = spec.getStrokeColor();
+                polygonInnerFillColor = spec.getInnerFillColor();
+                vertexLinePaintColor = spec.getVertexLineColor();
+                gridDirty = true;
+                styleChanged = true;
+            }
+            if (dimFillColor != spec.getDimFillColor()
+                    || dimStrokeColor != spec.getDimStrokeColor()
+                    || dimCircleColorBackground != spec.getDimCircleColorBackground()
+                    || dimCircleColor != spec.getDimCircleColor()) {
+                dimFillColor = spec.getDimFillColor();
+                dimStrokeColor = spec.getDimStrokeColor();
+                dimCircleColorBackground = spec.getDimCircleColorBackground();
+                dimCircleColor = spec.getDimCircleColor();
+                styleChanged = true;
+            }
+            if (styleChanged) {
+                updateStyle();
+                changed = true;
+            }
+            currentSpec = spec;
+        }
+        if (dimPercentages != null && !Arrays.equals(dimPercentages, mDimPercentages)) {
+            copyDimPercentages(dimPercentages);
+            changed = true;
+        }
+        if (spec.isShowDim() != isShowDim) {
+            isShowDim = spec.isShowDim();
+            dimDirty = true;
+            changed = true;
+        }
+        if (sizeChanged) {
+            requestLayout();
+        }
+        if (changed || sizeChanged) {
+            invalidate();
+        }
+    }
+
+    /**
+     * @return 最近一次 {@link #bind(PolygonSpec, float[])} 的属性，之后调用过单项 setter 时为 null
+     */
+    @Nullable
+    public PolygonSpec getSpec() {
+        return currentSpec;
     }
 }
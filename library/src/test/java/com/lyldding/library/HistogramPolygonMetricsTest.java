@@ -0,0 +1,46 @@
+package com.lyldding.library;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author lyldding
+ */
+public class HistogramPolygonMetricsTest {
+
+    @Test
+    public void recordsPhasesIntoPowerOfTwoBuckets() {
+        HistogramPolygonMetrics metrics = new HistogramPolygonMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.onPhase(PolygonMetrics.PHASE_POLYGON, 1000);
+        }
+        metrics.onPhase(PolygonMetrics.PHASE_POLYGON, 1000000);
+
+        assertEquals(100, metrics.getCount(PolygonMetrics.PHASE_POLYGON));
+        assertEquals(0, metrics.getCount(PolygonMetrics.PHASE_LINE));
+        assertEquals(99 * 1000 + 1000000, metrics.getTotalNanos(PolygonMetrics.PHASE_POLYGON));
+        assertEquals(1023, metrics.getPercentileNanos(PolygonMetrics.PHASE_POLYGON, 50));
+        assertEquals(1023, metrics.getPercentileNanos(PolygonMetrics.PHASE_POLYGON, 99));
+        assertEquals((1 << 20) - 1, metrics.getPercentileNanos(PolygonMetrics.PHASE_POLYGON, 100));
+        assertEquals(0, metrics.getPercentileNanos(PolygonMetrics.PHASE_LINE, 50));
+    }
+
+    @Test
+    public void accumulatesFrameCountersAndResets() {
+        HistogramPolygonMetrics metrics = new HistogramPolygonMetrics();
+        metrics.onFrame(5000, 3, 1, 0);
+        metrics.onFrame(7000, 0, 4, 2);
+
+        assertEquals(2, metrics.getCount(HistogramPolygonMetrics.FRAME));
+        assertEquals(12000, metrics.getTotalNanos(HistogramPolygonMetrics.FRAME));
+        assertEquals(3, metrics.getPathRebuilds());
+        assertEquals(5, metrics.getPathCacheHits());
+        assertEquals(2, metrics.getAllocations());
+
+        metrics.reset();
+        assertEquals(0, metrics.getCount(HistogramPolygonMetrics.FRAME));
+        assertEquals(0, metrics.getTotalNanos(HistogramPolygonMetrics.FRAME));
+        assertEquals(0, metrics.getPathRebuilds());
+    }
+}
@@ -0,0 +1,52 @@
+package com.lyldding.renderer;
+
+import com.lyldding.geometry.PathSink;
+
+import java.awt.geom.Arc2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+
+/**
+ * 把路径指令写入 {@link Path2D}。
+ * <p>
+ * java.awt 的角度逆时针为正，与 android.graphics 相反，圆弧的起始角度和扫过角度都取反。
+ *
+ * @author lyldding
+ */
+final class AwtPathSink implements PathSink {
+    private final Path2D.Float path;
+    private final Arc2D.Float arc = new Arc2D.Float(Arc2D.OPEN);
+    private final Ellipse2D.Float circle = new Ellipse2D.Float();
+
+    AwtPathSink(Path2D.Float path) {
+        this.path = path;
+    }
+
+    @Override
+    public void moveTo(float x, float y) {
+        path.moveTo(x, y);
+    }
+
+    @Override
+    public void lineTo(float x, float y) {
+        path.lineTo(x, y);
+    }
+
+    @Override
+    public void arcTo(float centerX, float centerY, float radius, float startAngle, float sweepAngle) {
+        arc.setArc(centerX - radius, centerY - radius, radius * 2, radius * 2, -startAngle, -sweepAngle, Arc2D.OPEN);
+        // 路径不为空时先连线到圆弧起点，与 android.graphics.Path#arcTo 一致
+        path.append(arc, true);
+    }
+
+    @Override
+    public void close() {
+        path.closePath();
+    }
+
+    @Override
+    public void addCircle(float centerX, float centerY, float radius) {
+        circle.setFrame(centerX - radius, centerY - radius, radius * 2, radius * 2);
+        path.append(circle, false);
+    }
+}
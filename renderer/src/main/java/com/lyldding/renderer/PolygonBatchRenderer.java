@@ -0,0 +1,135 @@
+package com.lyldding.renderer;
+
+import com.lyldding.geometry.PolygonDataset;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 在 fork-join 线程池上并行渲染大量雷达图。
+ * <p>
+ * 每个工作线程复用同一张图片，图片只在 {@link ImageConsumer#accept} 调用期间有效，
+ * 需要保留时由调用方自行拷贝或编码写出。
+ *
+ * @author lyldding
+ */
+public final class PolygonBatchRenderer {
+    private static final String TAG = "PolygonBatchRenderer";
+    /**
+     * 每个任务至少渲染的图表数，避免任务拆分过细
+     */
+    private static final int MIN_CHARTS_PER_TASK = 8;
+
+    private final PolygonRenderer renderer;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<BufferedImage> images = new ThreadLocal<BufferedImage>() {
+        @Override
+        protected BufferedImage initialValue() {
+            return renderer.createImage();
+        }
+    };
+
+    /**
+     * 使用 {@link ForkJoinPool#commonPool()}
+     */
+    public PolygonBatchRenderer(PolygonRenderer renderer) {
+        this(renderer, ForkJoinPool.commonPool());
+    }
+
+    public PolygonBatchRenderer(PolygonRenderer renderer, ForkJoinPool pool) {
+        this.renderer = renderer;
+        this.pool = pool;
+    }
+
+    /**
+     * 渲染全部数据，所有图表处理完后返回
+     *
+     * @param dimPercentages 每个图表的维度值
+     * @param consumer       在工作线程上接收渲染结果，可能被并发调用
+     * @throws IOException consumer 抛出的第一个异常
+     */
+    public void render(float[][] dimPercentages, ImageConsumer consumer) throws IOException {
+        try {
+            pool.invoke(new RenderTask(dimPercentages, null, consumer, 0, dimPercentages.length));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 渲染数据集中的全部记录，记录直接从映射内存读取，不拷贝
+     *
+     * @param dataset  数据集，边数需要与渲染属性一致
+     * @param consumer 在工作线程上接收渲染结果，可能被并发调用，index 为记录下标
+     * @throws IOException consumer 抛出的第一个异常
+     */
+    public void render(PolygonDataset dataset, ImageConsumer consumer) throws IOException {
+        if (dataset.getSides() != renderer.getSpec().getSides()) {
+            throw new IllegalArgumentException(TAG + " : dataset sides = " + dataset.getSides()
+                    + " spec sides = " + renderer.getSpec().getSides());
+        }
+        try {
+            pool.invoke(new RenderTask(null, dataset, consumer, 0, dataset.getRecordCount()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 接收一张渲染完成的图片
+     */
+    public interface ImageConsumer {
+        /**
+         * @param index 数据下标
+         * @param image 渲染结果，返回后会被复用
+         */
+        void accept(int index, BufferedImage image) throws IOException;
+    }
+
+    private final class RenderTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 数据来源，dimPercentages 与 dataset 只有一个不为 null
+         */
+        private final float[][] dimPercentages;
+        private final PolygonDataset dataset;
+        private final ImageConsumer consumer;
+        private final int from;
+        private final int to;
+
+        RenderTask(float[][] dimPercentages, PolygonDataset dataset, ImageConsumer consumer, int from, int to) {
+            this.dimPercentages = dimPercentages;
+            this.dataset = dataset;
+            this.consumer = consumer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_CHARTS_PER_TASK) {
+                BufferedImage image = images.get();
+                for (int index = from; index < to; index++) {
+                    if (dataset != null) {
+                        renderer.render(dataset.record(index), image);
+                    } else {
+                        renderer.render(dimPercentages[index], image);
+                    }
+                    try {
+                        consumer.accept(index, image);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RenderTask(dimPercentages, dataset, consumer, from, middle),
+                    new RenderTask(dimPercentages, dataset, consumer, middle, to));
+        }
+    }
+}
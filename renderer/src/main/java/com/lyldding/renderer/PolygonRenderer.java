@@ -0,0 +1,274 @@
+package com.lyldding.renderer;
+
+import com.lyldding.geometry.PolygonLayout;
+import com.lyldding.geometry.PolygonSpec;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.FloatBuffer;
+
+import javax.imageio.ImageIO;
+
+/**
+ * 在 JVM 上把雷达图绘制到 {@link BufferedImage}，不需要 Android 设备。
+ * <p>
+ * 属性与 {@code SimplePolygonView} 一致，尺寸换算见 {@link PolygonLayout}，绘制顺序与其 onDraw 相同：
+ * 顶点连线、各层多边形、维度区域和维度顶点圆。
+ * 网格只在构造时计算一次；实例不可变，可以在多个线程同时渲染不同的数据，
+ * 维度坐标和绘制用的图形对象按线程复用，渲染时不再创建。
+ *
+ * @author lyldding
+ */
+public final class PolygonRenderer {
+    private static final String TAG = "PolygonRenderer";
+
+    private final PolygonSpec spec;
+    private final PolygonLayout layout;
+    private final Path2D.Float[] layerPaths;
+    private final Rectangle2D.Float clip;
+
+    private final Color strokeColor;
+    private final Color innerFillColor;
+    private final Color vertexLineColor;
+    private final Color dimFillColor;
+    private final Color dimStrokeColor;
+    private final Color dimCircleColorBackground;
+    private final Color dimCircleColor;
+    private final BasicStroke thinStroke;
+    private final BasicStroke outerStroke;
+    private final ThreadLocal<Scratch> scratches = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch(spec.getSides());
+        }
+    };
+
+    /**
+     * @param spec 属性，尺寸按 1px/dp 换算
+     */
+    public PolygonRenderer(PolygonSpec spec) {
+        this(spec, 1f);
+    }
+
+    /**
+     * @param spec    属性
+     * @param density 每 dp 的像素数，与 Android 的 DisplayMetrics#density 含义相同
+     */
+    public PolygonRenderer(PolygonSpec spec, float density) {
+        this.spec = spec;
+        layout = new PolygonLayout(spec, density);
+        layerPaths = new Path2D.Float[spec.getLayers()];
+        for (int i = 1; i <= spec.getLayers(); i++) {
+            layerPaths[i - 1] = new Path2D.Float();
+            layout.constructLayerPath(new AwtPathSink(layerPaths[i - 1]), i);
+        }
+        final int center = layout.getCenter();
+        final int drawRadius = layout.getDrawRadius();
+        clip = new Rectangle2D.Float(center - drawRadius, center - drawRadius, drawRadius * 2, drawRadius * 2);
+
+        strokeColor = new Color(spec.getStrokeColor(), true);
+        innerFillColor = new Color(spec.getInnerFillColor(), true);
+        vertexLineColor = new Color(spec.getVertexLineColor(), true);
+        dimFillColor = new Color(spec.getDimFillColor(), true);
+        dimStrokeColor = new Color(spec.getDimStrokeColor(), true);
+        dimCircleColorBackground = new Color(spec.getDimCircleColorBackground(), true);
+        dimCircleColor = new Color(spec.getDimCircleColor(), true);
+        thinStroke = new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER);
+        outerStroke = new BasicStroke(layout.getOuterStrokeWidth(), BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER);
+    }
+
+    public PolygonSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * @return 图片宽高，单位像素
+     */
+    public int getSize() {
+        return layout.getSize();
+    }
+
+    /**
+     * @return 大小合适的空白图片，可以传给 {@link #render(float[], BufferedImage)} 反复使用
+     */
+    public BufferedImage createImage() {
+        final int size = Math.max(layout.getSize(), 1);
+        return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0，不显示维度时可以为 null
+     * @return 新的图片
+     */
+    public BufferedImage render(float[] dimPercentages) {
+        BufferedImage image = createImage();
+        render(dimPercentages, image);
+        return image;
+    }
+
+    /**
+     * 清空图片后绘制
+     *
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0，不显示维度时可以为 null
+     * @param image          目标图片，宽高至少为 {@link #getSize()}
+     */
+    public void render(float[] dimPercentages, BufferedImage image) {
+        checkImage(image);
+        Scratch scratch = scratches.get();
+        if (spec.isShowDim()) {
+            layout.computeDimPoint(scratch.dimPoints, 0, dimPercentages);
+        }
+        draw(scratch, image);
+    }
+
+    /**
+     * 清空图片后绘制，维度值直接从 buffer 读取，适合 {@link com.lyldding.geometry.PolygonDataset#record(int)} 的视图
+     *
+     * @param dimPercentages 从 position 开始的 sides 个维度值 0.0 - 1.0，读取后 position 不变；不显示维度时可以为 null
+     * @param image          目标图片，宽高至少为 {@link #getSize()}
+     */
+    public void render(FloatBuffer dimPercentages, BufferedImage image) {
+        checkImage(image);
+        Scratch scratch = scratches.get();
+        if (spec.isShowDim()) {
+            layout.computeDimPoint(scratch.dimPoints, 0, dimPercentages);
+        }
+        draw(scratch, image);
+    }
+
+    private void checkImage(BufferedImage image) {
+        final int size = layout.getSize();
+        if (image.getWidth() < size || image.getHeight() < size) {
+            throw new IllegalArgumentException(TAG + " : image smaller than " + size);
+        }
+    }
+
+    /**
+     * @param scratch 当前线程的绘制对象，不显示维度时忽略其中的维度坐标
+     */
+    private void draw(Scratch scratch, BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.setComposite(AlphaComposite.SrcOver);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+
+            g.clip(clip);
+            g.translate(layout.getCenter(), layout.getCenter());
+            g.rotate(Math.toRadians(spec.getRotation()));
+            drawLine(g, scratch.line);
+            drawPolygon(g);
+            if (spec.isShowDim()) {
+                drawDimArea(g, scratch.dimPoints, scratch.dimPath);
+                drawDimCircle(g, scratch.dimPoints, scratch.circle);
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * 绘制并以 PNG 格式写出，不关闭 out
+     *
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0，不显示维度时可以为 null
+     * @param out            输出
+     */
+    public void writePng(float[] dimPercentages, OutputStream out) throws IOException {
+        ImageIO.write(render(dimPercentages), "png", out);
+    }
+
+    /**
+     * 绘制多边形
+     */
+    private void drawPolygon(Graphics2D g) {
+        final int layers = spec.getLayers();
+        for (int i = 1; i <= layers; i++) {
+            if (i == spec.getInnerLayer()) {
+                g.setColor(innerFillColor);
+                g.fill(layerPaths[i - 1]);
+            }
+            g.setColor(strokeColor);
+            g.setStroke(i != layers ? thinStroke : outerStroke);
+            g.draw(layerPaths[i - 1]);
+        }
+    }
+
+    /**
+     * 画出从中心向各顶点的连线
+     */
+    private void drawLine(Graphics2D g, Line2D.Float line) {
+        g.setColor(vertexLineColor);
+        g.setStroke(thinStroke);
+        final float[] minPoints = layout.getMinPoints();
+        final float[] maxPoints = layout.getMaxPoints();
+        for (int i = 0; i < spec.getSides(); i++) {
+            line.setLine(minPoints[i * 2], minPoints[i * 2 + 1], maxPoints[i * 2], maxPoints[i * 2 + 1]);
+            g.draw(line);
+        }
+    }
+
+    /**
+     * 绘制维度区域
+     */
+    private void drawDimArea(Graphics2D g, float[] dimPoints, Path2D.Float path) {
+        path.reset();
+        for (int i = 0; i < spec.getSides(); i++) {
+            if (i == 0) {
+                path.moveTo(dimPoints[0], dimPoints[1]);
+            } else {
+                path.lineTo(dimPoints[i * 2], dimPoints[i * 2 + 1]);
+            }
+        }
+        path.closePath();
+        g.setColor(dimFillColor);
+        g.fill(path);
+        g.setColor(dimStrokeColor);
+        g.setStroke(outerStroke);
+        g.draw(path);
+    }
+
+    /**
+     * 绘制维度顶点
+     */
+    private void drawDimCircle(Graphics2D g, float[] dimPoints, Ellipse2D.Float circle) {
+        final float dimCircleRadiusBackground = layout.getDimCircleRadiusBackground();
+        final float dimCircleRadius = layout.getDimCircleRadius();
+        for (int i = 0; i < spec.getSides(); i++) {
+            float x = dimPoints[i * 2];
+            float y = dimPoints[i * 2 + 1];
+            circle.setFrame(x - dimCircleRadiusBackground, y - dimCircleRadiusBackground,
+                    dimCircleRadiusBackground * 2, dimCircleRadiusBackground * 2);
+            g.setColor(dimCircleColorBackground);
+            g.fill(circle);
+            circle.setFrame(x - dimCircleRadius, y - dimCircleRadius, dimCircleRadius * 2, dimCircleRadius * 2);
+            g.setColor(dimCircleColor);
+            g.fill(circle);
+        }
+    }
+
+    /**
+     * 每个线程复用的维度坐标和图形对象
+     */
+    private static final class Scratch {
+        final float[] dimPoints;
+        final Path2D.Float dimPath = new Path2D.Float();
+        final Line2D.Float line = new Line2D.Float();
+        final Ellipse2D.Float circle = new Ellipse2D.Float();
+
+        Scratch(int sides) {
+            dimPoints = new float[sides * 2];
+        }
+    }
+}
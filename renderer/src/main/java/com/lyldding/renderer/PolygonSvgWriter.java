@@ -0,0 +1,266 @@
+package com.lyldding.renderer;
+
+import com.lyldding.geometry.PolygonLayout;
+import com.lyldding.geometry.PolygonSpec;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * 以 SVG 格式流式写出雷达图，不构建 DOM。
+ * <p>
+ * 网格（顶点连线和各层多边形，圆角为真正的圆弧）只在构造时生成一次，放在 defs 中，每个图表通过 use 引用，
+ * 之后每个图表只写出自己的维度区域。批量写出时逐个读取数据、逐个写出，内存占用与图表数量无关。
+ * 内部复用缓冲区，非线程安全，每个线程使用自己的实例。
+ *
+ * @author lyldding
+ */
+public final class PolygonSvgWriter {
+    private static final String TAG = "PolygonSvgWriter";
+    private static final String CLIP_ID = "polygon-clip";
+    private static final String GRID_ID = "polygon-grid";
+
+    private final PolygonSpec spec;
+    private final PolygonLayout layout;
+    /**
+     * defs 内容，与数据无关
+     */
+    private final String defs;
+    private final StringBuilder buffer = new StringBuilder(256);
+    private final float[] dimPoints;
+
+    /**
+     * @param spec 属性，尺寸按 1px/dp 换算
+     */
+    public PolygonSvgWriter(PolygonSpec spec) {
+        this(spec, 1f);
+    }
+
+    /**
+     * @param spec    属性
+     * @param density 每 dp 的像素数，与 Android 的 DisplayMetrics#density 含义相同
+     */
+    public PolygonSvgWriter(PolygonSpec spec, float density) {
+        this.spec = spec;
+        layout = new PolygonLayout(spec, density);
+        dimPoints = new float[spec.getSides() * 2];
+        defs = buildDefs();
+    }
+
+    public int getSize() {
+        return layout.getSize();
+    }
+
+    /**
+     * 写出只包含一个图表的 SVG 文档，不关闭 out
+     *
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0，不显示维度时可以为 null
+     * @param out            输出
+     */
+    public void write(float[] dimPercentages, Writer out) throws IOException {
+        writeHeader(layout.getSize(), layout.getSize(), out);
+        writeChart(dimPercentages, 0, 0, out);
+        out.write("</svg>\n");
+    }
+
+    /**
+     * 以 UTF-8 编码写出只包含一个图表的 SVG 文档，写完后 flush，不关闭 out
+     *
+     * @param dimPercentages 每个维度的百分比值 0.0 - 1.0，不显示维度时可以为 null
+     * @param out            输出
+     */
+    public void write(float[] dimPercentages, OutputStream out) throws IOException {
+        Writer writer = newWriter(out);
+        write(dimPercentages, writer);
+        writer.flush();
+    }
+
+    /**
+     * 把多个图表按行排列写到同一个 SVG 文档中，不关闭 out
+     *
+     * @param data    每个图表的维度值，按需读取，最多读取 count 个
+     * @param count   图表数量，用于计算文档大小
+     * @param columns 每行图表数
+     * @param out     输出
+     */
+    public void writeSheet(Iterator<float[]> data, int count, int columns, Writer out) throws IOException {
+        if (count < 0 || columns < 1) {
+            throw new IllegalArgumentException(TAG + " : count = " + count + " columns = " + columns);
+        }
+        final int size = layout.getSize();
+        final int rows = (count + columns - 1) / columns;
+        writeHeader(Math.min(count, columns) * size, rows * size, out);
+        for (int index = 0; index < count && data.hasNext(); index++) {
+            writeChart(data.next(), (index % columns) * size, (index / columns) * size, out);
+        }
+        out.write("</svg>\n");
+    }
+
+    /**
+     * 以 UTF-8 编码把多个图表按行排列写到同一个 SVG 文档中，写完后 flush，不关闭 out
+     *
+     * @param data    每个图表的维度值，按需读取，最多读取 count 个
+     * @param count   图表数量，用于计算文档大小
+     * @param columns 每行图表数
+     * @param out     输出
+     */
+    public void writeSheet(Iterator<float[]> data, int count, int columns, OutputStream out) throws IOException {
+        Writer writer = newWriter(out);
+        writeSheet(data, count, columns, writer);
+        writer.flush();
+    }
+
+    private static Writer newWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    private void writeHeader(int width, int height, Writer out) throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"");
+        out.write(Integer.toString(width));
+        out.write("\" height=\"");
+        out.write(Integer.toString(height));
+        out.write("\" viewBox=\"0 0 ");
+        out.write(Integer.toString(width));
+        out.write(' ');
+        out.write(Integer.toString(height));
+        out.write("\">\n");
+        out.write(defs);
+    }
+
+    private void writeChart(float[] dimPercentages, int x, int y, Writer out) throws IOException {
+        StringBuilder sb = buffer;
+        sb.setLength(0);
+        sb.append("<g");
+        if (x != 0 || y != 0) {
+            sb.append(" transform=\"translate(").append(x).append(' ').append(y).append(")\"");
+        }
+        sb.append(" clip-path=\"url(#").append(CLIP_ID).append(")\"><g transform=\"translate(")
+                .append(layout.getCenter()).append(' ').append(layout.getCenter())
+                .append(") rotate(").append(spec.getRotation()).append(")\"><use xlink:href=\"#")
+                .append(GRID_ID).append("\"/>");
+        if (spec.isShowDim()) {
+            layout.computeDimPoint(dimPoints, 0, dimPercentages);
+            appendDimArea(sb);
+            appendDimCircle(sb);
+        }
+        sb.append("</g></g>\n");
+        out.append(sb);
+    }
+
+    /**
+     * 裁剪区域和网格
+     */
+    private String buildDefs() {
+        final int center = layout.getCenter();
+        final int drawRadius = layout.getDrawRadius();
+        final int sides = spec.getSides();
+        final int layers = spec.getLayers();
+        StringBuilder sb = new StringBuilder(1024);
+        sb.append("<defs>\n<clipPath id=\"").append(CLIP_ID).append("\"><rect x=\"").append(center - drawRadius)
+                .append("\" y=\"").append(center - drawRadius)
+                .append("\" width=\"").append(drawRadius * 2)
+                .append("\" height=\"").append(drawRadius * 2).append("\"/></clipPath>\n");
+        sb.append("<g id=\"").append(GRID_ID).append("\">\n");
+
+        // 顶点连线
+        final float[] minPoints = layout.getMinPoints();
+        final float[] maxPoints = layout.getMaxPoints();
+        sb.append("<path d=\"");
+        for (int i = 0; i < sides; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append('M');
+            appendPoint(sb, minPoints[i * 2], minPoints[i * 2 + 1]);
+            sb.append(" L");
+            appendPoint(sb, maxPoints[i * 2], maxPoints[i * 2 + 1]);
+        }
+        sb.append("\" fill=\"none\"");
+        appendColor(sb, "stroke", spec.getVertexLineColor());
+        sb.append(" stroke-width=\"1\"/>\n");
+
+        // 各层多边形，指定内层先填充再描边
+        SvgPathSink sink = new SvgPathSink();
+        StringBuilder d = new StringBuilder(256);
+        for (int i = 1; i <= layers; i++) {
+            d.setLength(0);
+            layout.constructLayerPath(sink.wrap(d), i);
+            sb.append("<path d=\"").append(d).append('"');
+            if (i == spec.getInnerLayer()) {
+                appendColor(sb, "fill", spec.getInnerFillColor());
+            } else {
+                sb.append(" fill=\"none\"");
+            }
+            appendColor(sb, "stroke", spec.getStrokeColor());
+            sb.append(" stroke-width=\"").append(i != layers ? 1 : layout.getOuterStrokeWidth()).append("\"/>\n");
+        }
+        sb.append("</g>\n</defs>\n");
+        return sb.toString();
+    }
+
+    private void appendDimArea(StringBuilder sb) {
+        sb.append("<polygon points=\"");
+        for (int i = 0; i < spec.getSides(); i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            SvgPathSink.appendNumber(sb, dimPoints[i * 2]);
+            sb.append(',');
+            SvgPathSink.appendNumber(sb, dimPoints[i * 2 + 1]);
+        }
+        sb.append('"');
+        appendColor(sb, "fill", spec.getDimFillColor());
+        appendColor(sb, "stroke", spec.getDimStrokeColor());
+        sb.append(" stroke-width=\"").append(layout.getOuterStrokeWidth()).append("\"/>");
+    }
+
+    private void appendDimCircle(StringBuilder sb) {
+        for (int i = 0; i < spec.getSides(); i++) {
+            appendCircle(sb, dimPoints[i * 2], dimPoints[i * 2 + 1], layout.getDimCircleRadiusBackground(),
+                    spec.getDimCircleColorBackground());
+            appendCircle(sb, dimPoints[i * 2], dimPoints[i * 2 + 1], layout.getDimCircleRadius(),
+                    spec.getDimCircleColor());
+        }
+    }
+
+    private static void appendCircle(StringBuilder sb, float x, float y, float radius, int color) {
+        sb.append("<circle cx=\"");
+        SvgPathSink.appendNumber(sb, x);
+        sb.append("\" cy=\"");
+        SvgPathSink.appendNumber(sb, y);
+        sb.append("\" r=\"");
+        SvgPathSink.appendNumber(sb, radius);
+        sb.append('"');
+        appendColor(sb, "fill", color);
+        sb.append("/>");
+    }
+
+    private static void appendPoint(StringBuilder sb, float x, float y) {
+        SvgPathSink.appendNumber(sb, x);
+        sb.append(' ');
+        SvgPathSink.appendNumber(sb, y);
+    }
+
+    /**
+     * 写入颜色属性，ARGB 的透明度单独写为 xxx-opacity
+     */
+    private static void appendColor(StringBuilder sb, String attribute, int color) {
+        sb.append(' ').append(attribute).append("=\"#");
+        for (int shift = 20; shift >= 0; shift -= 4) {
+            sb.append(Character.forDigit((color >>> shift) & 0xF, 16));
+        }
+        sb.append('"');
+        int alpha = color >>> 24;
+        if (alpha != 0xFF) {
+            sb.append(' ').append(attribute).append("-opacity=\"");
+            SvgPathSink.appendNumber(sb, alpha / 255f);
+            sb.append('"');
+        }
+    }
+}
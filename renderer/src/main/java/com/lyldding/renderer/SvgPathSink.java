@@ -0,0 +1,113 @@
+package com.lyldding.renderer;
+
+import com.lyldding.geometry.PathSink;
+
+/**
+ * 把路径指令转成 SVG path 的 d 属性，圆弧输出为真正的 A 指令。
+ * <p>
+ * 数值保留两位小数，直接写入 StringBuilder，不产生中间字符串。
+ *
+ * @author lyldding
+ */
+final class SvgPathSink implements PathSink {
+    private StringBuilder out;
+    private boolean isEmpty;
+
+    /**
+     * @param out 接收 d 属性内容
+     * @return this
+     */
+    SvgPathSink wrap(StringBuilder out) {
+        this.out = out;
+        isEmpty = true;
+        return this;
+    }
+
+    @Override
+    public void moveTo(float x, float y) {
+        command('M').point(x, y);
+        isEmpty = false;
+    }
+
+    @Override
+    public void lineTo(float x, float y) {
+        command(isEmpty ? 'M' : 'L').point(x, y);
+        isEmpty = false;
+    }
+
+    @Override
+    public void arcTo(float centerX, float centerY, float radius, float startAngle, float sweepAngle) {
+        double start = Math.toRadians(startAngle);
+        double end = Math.toRadians(startAngle + sweepAngle);
+        // 与 android.graphics.Path#arcTo 一致：先连到圆弧起点
+        lineTo((float) (centerX + radius * Math.cos(start)), (float) (centerY + radius * Math.sin(start)));
+        command('A').number(radius).space().number(radius).append(" 0 ")
+                .append(Math.abs(sweepAngle) > 180 ? '1' : '0').append(' ')
+                .append(sweepAngle > 0 ? '1' : '0').append(' ')
+                .point((float) (centerX + radius * Math.cos(end)), (float) (centerY + radius * Math.sin(end)));
+    }
+
+    @Override
+    public void close() {
+        command('Z');
+    }
+
+    @Override
+    public void addCircle(float centerX, float centerY, float radius) {
+        moveTo(centerX + radius, centerY);
+        command('A').number(radius).space().number(radius).append(" 0 1 1 ").point(centerX - radius, centerY);
+        command('A').number(radius).space().number(radius).append(" 0 1 1 ").point(centerX + radius, centerY);
+        command('Z');
+    }
+
+    private SvgPathSink command(char command) {
+        if (out.length() > 0) {
+            out.append(' ');
+        }
+        out.append(command);
+        return this;
+    }
+
+    private SvgPathSink point(float x, float y) {
+        return number(x).space().number(y);
+    }
+
+    private SvgPathSink space() {
+        out.append(' ');
+        return this;
+    }
+
+    private SvgPathSink append(String value) {
+        out.append(value);
+        return this;
+    }
+
+    private SvgPathSink append(char value) {
+        out.append(value);
+        return this;
+    }
+
+    private SvgPathSink number(float value) {
+        appendNumber(out, value);
+        return this;
+    }
+
+    /**
+     * 写入保留两位小数的数值，省略末尾的 0
+     */
+    static void appendNumber(StringBuilder out, float value) {
+        long hundredths = Math.round(value * 100.0);
+        if (hundredths < 0) {
+            out.append('-');
+            hundredths = -hundredths;
+        }
+        out.append(hundredths / 100);
+        int fraction = (int) (hundredths % 100);
+        if (fraction != 0) {
+            out.append('.').append(fraction / 10);
+            if (fraction % 10 != 0) {
+                out.append(fraction % 10);
+            }
+        }
+    }
+}
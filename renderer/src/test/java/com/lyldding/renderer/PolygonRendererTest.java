@@ -0,0 +1,105 @@
+package com.lyldding.renderer;
+
+import com.lyldding.geometry.PolygonSpec;
+
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.imageio.ImageIO;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PolygonRendererTest {
+    private static final int SIDES = 6;
+
+    private static PolygonSpec createSpec() {
+        return new PolygonSpec.Builder()
+                .sides(SIDES)
+                .layers(4)
+                .innerLayer(1)
+                .radiusMax(50)
+                .showDim(true)
+                .build();
+    }
+
+    private static float[] createDimPercentages(int seed) {
+        float[] dims = new float[SIDES];
+        for (int index = 0; index < SIDES; index++) {
+            dims[index] = ((index + seed) % SIDES + 1f) / (SIDES + 1f);
+        }
+        return dims;
+    }
+
+    @Test
+    public void render_matchesViewLayout() {
+        PolygonRenderer renderer = new PolygonRenderer(createSpec(), 2f);
+        assertEquals(200, renderer.getSize());
+
+        BufferedImage image = renderer.render(createDimPercentages(0));
+        assertEquals(200, image.getWidth());
+        // 角落在裁剪区域外
+        assertEquals(0, image.getRGB(0, 0) >>> 24);
+        // 中心被维度区域覆盖，不透明的内层填充之上叠加半透明填充
+        assertEquals(0xFF, image.getRGB(100, 100) >>> 24);
+    }
+
+    @Test
+    public void writePng_producesReadableImage() throws IOException {
+        PolygonRenderer renderer = new PolygonRenderer(createSpec());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.writePng(createDimPercentages(1), out);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(renderer.getSize(), image.getWidth());
+        assertEquals(renderer.getSize(), image.getHeight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void render_rejectsMissingDims() {
+        new PolygonRenderer(createSpec()).render(null);
+    }
+
+    @Test
+    public void batch_rendersEveryChartOnce() throws IOException {
+        final int count = 100;
+        float[][] dims = new float[count][];
+        for (int index = 0; index < count; index++) {
+            dims[index] = createDimPercentages(index);
+        }
+        final PolygonRenderer renderer = new PolygonRenderer(createSpec());
+        final AtomicIntegerArray calls = new AtomicIntegerArray(count);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new PolygonBatchRenderer(renderer, pool).render(dims, new PolygonBatchRenderer.ImageConsumer() {
+                @Override
+                public void accept(int index, BufferedImage image) {
+                    assertTrue(image.getWidth() >= renderer.getSize());
+                    calls.incrementAndGet(index);
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+        for (int index = 0; index < count; index++) {
+            assertEquals(1, calls.get(index));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void batch_rethrowsConsumerFailure() throws IOException {
+        float[][] dims = {createDimPercentages(0), createDimPercentages(1)};
+        new PolygonBatchRenderer(new PolygonRenderer(createSpec())).render(dims, new PolygonBatchRenderer.ImageConsumer() {
+            @Override
+            public void accept(int index, BufferedImage image) throws IOException {
+                throw new IOException("disk full");
+            }
+        });
+    }
+}
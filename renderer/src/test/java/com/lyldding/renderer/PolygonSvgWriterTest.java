@@ -0,0 +1,126 @@
+package com.lyldding.renderer;
+
+import com.lyldding.geometry.PolygonSpec;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PolygonSvgWriterTest {
+    private static final int SIDES = 5;
+
+    private static PolygonSpec createSpec() {
+        return new PolygonSpec.Builder().sides(SIDES).layers(3).innerLayer(1).showDim(true).build();
+    }
+
+    @Test
+    public void write_usesTrueArcsForRoundedCorners() throws IOException {
+        StringWriter out = new StringWriter();
+        new PolygonSvgWriter(createSpec()).write(new float[]{0.1f, 0.3f, 0.5f, 0.7f, 0.9f}, out);
+        String svg = out.toString();
+
+        assertTrue(svg.startsWith("<?xml"));
+        assertTrue(svg.endsWith("</svg>\n"));
+        // 每层每个角一段圆弧
+        assertEquals(3 * SIDES, count(svg, " A"));
+        assertEquals(1, count(svg, "<polygon"));
+        assertEquals(SIDES * 2, count(svg, "<circle"));
+        assertTrue(svg.contains("fill=\"#ffdead\" fill-opacity=\"0.27\""));
+    }
+
+    @Test
+    public void write_outputStreamMatchesWriter() throws IOException {
+        float[] dims = {0.1f, 0.3f, 0.5f, 0.7f, 0.9f};
+        PolygonSvgWriter writer = new PolygonSvgWriter(createSpec());
+        StringWriter expected = new StringWriter();
+        writer.write(dims, expected);
+
+        // 写完即可读取，不需要关闭
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(dims, out);
+        assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void appendNumber_keepsTwoDecimals() {
+        StringBuilder sb = new StringBuilder();
+        SvgPathSink.appendNumber(sb, 12f);
+        sb.append(' ');
+        SvgPathSink.appendNumber(sb, -3.14159f);
+        sb.append(' ');
+        SvgPathSink.appendNumber(sb, 0.5f);
+        sb.append(' ');
+        SvgPathSink.appendNumber(sb, 0.05f);
+        assertEquals("12 -3.14 0.5 0.05", sb.toString());
+    }
+
+    @Test
+    public void writeSheet_streamsWithoutBuffering() throws IOException {
+        final int count = 20000;
+        final float[] dims = {0.2f, 0.4f, 0.6f, 0.8f, 1f};
+        CountingWriter out = new CountingWriter();
+        new PolygonSvgWriter(createSpec()).writeSheet(new Iterator<float[]>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public float[] next() {
+                index++;
+                return dims;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        }, count, 100, out);
+
+        assertEquals(count, out.charts);
+        assertTrue(out.length > count * 100L);
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int index = text.indexOf(token); index >= 0; index = text.indexOf(token, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 只统计写出的字符数和图表数，不保存内容
+     */
+    private static final class CountingWriter extends Writer {
+        private long length;
+        private int charts;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            length += len;
+            String chunk = new String(cbuf, off, len);
+            for (int index = chunk.indexOf("<use "); index >= 0; index = chunk.indexOf("<use ", index + 1)) {
+                charts++;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}